@@ -0,0 +1,122 @@
+package com.hoangnd.reportingservice.benchmark;
+
+import com.hoangnd.reportingservice.model.dto.request.CreateReportRequest;
+import com.hoangnd.reportingservice.model.entity.Feedback;
+import com.hoangnd.reportingservice.model.entity.FeedbackItem;
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.entity.ReportEvidence;
+import com.hoangnd.reportingservice.model.enums.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic, realistically sized entities and requests for the benchmarks.
+ */
+public final class SyntheticData {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SyntheticData() {
+    }
+
+    public static List<Report> reports(int count, int evidencesPerReport) {
+        Random random = new Random(42);
+        List<Report> reports = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Report report = Report.builder()
+                    .reportId(new UUID(random.nextLong(), random.nextLong()))
+                    .reporterUserId(new UUID(random.nextLong(), random.nextLong()))
+                    .reportedUserId(new UUID(random.nextLong(), random.nextLong()))
+                    .reportedEntityType(ReportedEntityType.LISTING)
+                    .reportedEntityId((long) random.nextInt(1_000_000))
+                    .reportType(pick(random, ReportType.values()))
+                    .priorityLevel(pick(random, PriorityLevel.values()))
+                    .status(pick(random, ReportStatus.values()))
+                    .title("Suspicious listing #" + i)
+                    .description("Listing price is far below market and the seller asks for a deposit off-platform. " + i)
+                    .createdAt(EPOCH.plusSeconds(i))
+                    .updatedAt(EPOCH.plusSeconds(i + 60))
+                    .aiSeverityScore(BigDecimal.valueOf(random.nextInt(10_000), 4))
+                    .build();
+            for (int e = 0; e < evidencesPerReport; e++) {
+                report.addEvidence(ReportEvidence.builder()
+                        .evidenceId(new UUID(random.nextLong(), random.nextLong()))
+                        .evidenceType(pick(random, EvidenceType.values()))
+                        .fileUrl("https://cdn.example.com/evidence/" + i + "/" + e + ".png")
+                        .fileSize(50_000L + random.nextInt(5_000_000))
+                        .mimeType("image/png")
+                        .description("Screenshot " + e)
+                        .uploadedAt(EPOCH.plusSeconds(i))
+                        .build());
+            }
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    public static List<Feedback> feedbacks(int count, int itemsPerFeedback) {
+        Random random = new Random(7);
+        List<Feedback> feedbacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Feedback feedback = Feedback.builder()
+                    .feedbackId(new UUID(random.nextLong(), random.nextLong()))
+                    .listingId(new UUID(random.nextLong(), random.nextLong()))
+                    .sellerUserId(new UUID(random.nextLong(), random.nextLong()))
+                    .checkType(CheckType.AI_INITIAL_CHECK)
+                    .feedbackStatus(pick(random, FeedbackStatus.values()))
+                    .aiConfidenceScore(BigDecimal.valueOf(random.nextInt(10_000), 4))
+                    .createdAt(EPOCH.plusSeconds(i))
+                    .build();
+            for (int n = 0; n < itemsPerFeedback; n++) {
+                feedback.addFeedbackItem(FeedbackItem.builder()
+                        .feedbackItemId(new UUID(random.nextLong(), random.nextLong()))
+                        .category(pick(random, Category.values()))
+                        .severity(pick(random, Severity.values()))
+                        .targetAttribute("images[" + n + "]")
+                        .errorMessage("Image resolution is below the 1024px minimum")
+                        .suggestion("Upload a higher resolution photo")
+                        .detectedBy(DetectedBy.AI)
+                        .createdAt(EPOCH.plusSeconds(i))
+                        .build());
+            }
+            feedbacks.add(feedback);
+        }
+        return feedbacks;
+    }
+
+    public static List<CreateReportRequest> createReportRequests(int count, int evidencesPerReport) {
+        Random random = new Random(11);
+        List<CreateReportRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<CreateReportRequest.EvidenceRequest> evidences = new ArrayList<>(evidencesPerReport);
+            for (int e = 0; e < evidencesPerReport; e++) {
+                evidences.add(CreateReportRequest.EvidenceRequest.builder()
+                        .evidenceType(EvidenceType.SCREENSHOT)
+                        .fileUrl("https://cdn.example.com/upload/" + i + "/" + e + ".png")
+                        .fileSize(120_000L)
+                        .mimeType("image/png")
+                        .build());
+            }
+            requests.add(CreateReportRequest.builder()
+                    .reporterUserId(new UUID(random.nextLong(), random.nextLong()))
+                    .reportedUserId(new UUID(random.nextLong(), random.nextLong()))
+                    .reportedEntityType(ReportedEntityType.LISTING)
+                    .reportedEntityId((long) random.nextInt(1_000_000))
+                    .reportType(pick(random, ReportType.values()))
+                    .priorityLevel(pick(random, PriorityLevel.values()))
+                    .title("Suspicious listing #" + i)
+                    .description("Seller asks for a deposit off-platform")
+                    .evidences(evidences)
+                    .build());
+        }
+        return requests;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
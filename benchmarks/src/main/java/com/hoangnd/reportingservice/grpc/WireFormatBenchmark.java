@@ -0,0 +1,85 @@
+package com.hoangnd.reportingservice.grpc;
+
+import com.hoangnd.reportingservice.benchmark.SyntheticData;
+import com.hoangnd.reportingservice.grpc.proto.Report;
+import com.hoangnd.reportingservice.mapper.ReportMapper;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a list of reports as the REST API sends it (one JSON array)
+ * versus as ListReportsByStatus sends it (length-delimited protobuf messages).
+ * Payload sizes are printed once per trial. Transport and HTTP/2 framing are not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"200", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ReportResponse> responses;
+    private List<Report> messages;
+    private byte[] json;
+    private byte[] protobuf;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = JsonMapper.builder().build();
+        responses = SyntheticData.reports(size, 3).stream()
+                .map(ReportMapper.INSTANCE::toResponse)
+                .toList();
+        messages = responses.stream().map(GrpcMapper::toProto).toList();
+        json = encodeJson();
+        protobuf = encodeProtobuf();
+        System.out.printf("%n%d reports: json=%d bytes, protobuf=%d bytes%n", size, json.length, protobuf.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() throws IOException {
+        // Includes the DTO-to-message conversion the gRPC endpoint performs per report
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ReportResponse response : responses) {
+            GrpcMapper.toProto(response).writeDelimitedTo(out);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<ReportResponse> decodeJson() {
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+
+    @Benchmark
+    public List<Report> decodeProtobuf() throws IOException {
+        List<Report> decoded = new ArrayList<>(messages.size());
+        InputStream in = new ByteArrayInputStream(protobuf);
+        Report report;
+        while ((report = Report.parseDelimitedFrom(in)) != null) {
+            decoded.add(report);
+        }
+        return decoded;
+    }
+}
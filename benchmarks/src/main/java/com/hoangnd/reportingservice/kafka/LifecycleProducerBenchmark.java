@@ -0,0 +1,80 @@
+package com.hoangnd.reportingservice.kafka;
+
+import com.hoangnd.reportingservice.benchmark.SyntheticData;
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.kafka.config.KafkaProducerConfig;
+import com.hoangnd.reportingservice.kafka.event.ReportLifecycleEvent;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through the lifecycle producer against an in-process broker,
+ * across linger and batch sizes. Each invocation sends a burst keyed by report ID
+ * and flushes, so the score counts acknowledged records.
+ * Absolute numbers are optimistic (loopback, one broker); compare the rows with each other.
+ * It measures throughput only; it makes no claim about allocation per compression codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LifecycleProducerBenchmark {
+    private static final String TOPIC = "report-lifecycle-events";
+    private static final int PARTITIONS = 6;
+    private static final int BURST = 10_000;
+
+    @Param({"0", "5", "20"})
+    private int lingerMs;
+
+    @Param({"16384", "65536", "262144"})
+    private int batchSize;
+
+    @Param({"lz4"})
+    private String compressionType;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, String> producer;
+    private List<String> keys;
+    private List<String> payloads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+        producer = new KafkaProducer<>(KafkaProducerConfig.producerProperties(
+                broker.getBrokersAsString(), lingerMs, batchSize, compressionType));
+
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        List<ReportLifecycleEvent> events = SyntheticData.reports(1_000, 0).stream()
+                .map(report -> ReportLifecycleEvent.from(
+                        ReportChangedEvent.of(ReportChangedEvent.Type.STATUS_CHANGED, report, null)))
+                .toList();
+        keys = events.stream().map(event -> event.getReportId().toString()).toList();
+        payloads = events.stream().map(objectMapper::writeValueAsString).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.close();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void sendBurst() {
+        for (int i = 0; i < BURST; i++) {
+            int n = i % keys.size();
+            producer.send(new ProducerRecord<>(TOPIC, keys.get(n), payloads.get(n)));
+        }
+        producer.flush();
+    }
+}
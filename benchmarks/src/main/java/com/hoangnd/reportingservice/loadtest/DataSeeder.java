@@ -0,0 +1,95 @@
+package com.hoangnd.reportingservice.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk-loads reports and feedback with set-based SQL so 10M rows seed in minutes, not hours.
+ * Distributions mirror production: ~5% of reports are PENDING and unassigned, the rest
+ * are spread across the review and terminal states.
+ */
+public class DataSeeder {
+    private static final int SEED_CHUNK = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void seed(long rows) {
+        for (long from = 1; from <= rows; from += SEED_CHUNK) {
+            long to = Math.min(rows, from + SEED_CHUNK - 1);
+            seedReports(from, to);
+            seedFeedback(from, to);
+        }
+        for (String table : List.of("report", "report_evidence", "feedback", "feedback_item")) {
+            jdbcTemplate.execute("VACUUM ANALYZE " + table);
+        }
+    }
+
+    /**
+     * Ids of PENDING, unassigned reports to drive assignments with
+     */
+    public List<UUID> pendingReportIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT report_id FROM report WHERE status = 'PENDING' AND assigned_admin_id IS NULL LIMIT ?",
+                UUID.class, limit);
+    }
+
+    public List<UUID> listingIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT listing_id FROM feedback LIMIT ?", UUID.class, limit);
+    }
+
+    private void seedReports(long from, long to) {
+        jdbcTemplate.update("""
+                INSERT INTO report (reporter_user_id, reported_user_id, reported_entity_type, reported_entity_id,
+                                    report_type, priority_level, status, title, description, assigned_admin_id,
+                                    created_at, resolved_at, ai_verified)
+                SELECT %s, %s, 'LISTING', g %% 200000,
+                       (ARRAY['FRAUD','FAKE_LISTING','SPAM','OTHER'])[1 + g %% 4],
+                       (ARRAY['HIGH','MEDIUM','LOW'])[1 + g %% 3],
+                       CASE g %% 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'IN_REVIEW' WHEN 2 THEN 'ESCALATED'
+                            ELSE (ARRAY['RESOLVED','REJECTED'])[1 + g %% 2] END,
+                       'Load test report ' || g, 'Seeded by the load test harness',
+                       CASE WHEN g %% 20 = 0 THEN NULL ELSE %s END,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '1 second',
+                       CASE WHEN g %% 20 > 2 THEN TIMESTAMP '2024-01-02' + g * INTERVAL '1 second' END,
+                       g %% 10 = 0
+                FROM generate_series(?, ?) g
+                """.formatted(userId(0, 100000), userId(1, 50000), userId(2, 500)), from, to);
+        jdbcTemplate.update("""
+                INSERT INTO report_evidence (report_id, evidence_type, file_url, file_size, mime_type)
+                SELECT report_id, 'IMAGE', 'https://cdn.example.com/' || report_id || '.png', 1024, 'image/png'
+                FROM report
+                WHERE created_at BETWEEN TIMESTAMP '2024-01-01' + ? * INTERVAL '1 second'
+                                     AND TIMESTAMP '2024-01-01' + ? * INTERVAL '1 second'
+                """, from, to);
+    }
+
+    private void seedFeedback(long from, long to) {
+        jdbcTemplate.update("""
+                INSERT INTO feedback (listing_id, seller_user_id, check_type, status, reviewed_by_staff_id, created_at)
+                SELECT %s, %s, 'AI_INITIAL_CHECK',
+                       CASE g %% 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'NEEDS_REVISION'
+                            ELSE (ARRAY['APPROVED','REJECTED','RESOLVED'])[1 + g %% 3] END,
+                       CASE WHEN g %% 20 = 0 THEN NULL ELSE %s END,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '1 second'
+                FROM generate_series(?, ?) g
+                """.formatted(userId(3, 200000), userId(4, 20000), userId(5, 200)), from, to);
+        jdbcTemplate.update("""
+                INSERT INTO feedback_item (feedback_id, category, severity, target_attribute, error_message, detected_by)
+                SELECT feedback_id, 'MISSING_DATA', 'MINOR', 'title', 'Title is missing the district', 'AI'
+                FROM feedback
+                WHERE created_at BETWEEN TIMESTAMP '2024-01-01' + ? * INTERVAL '1 second'
+                                     AND TIMESTAMP '2024-01-01' + ? * INTERVAL '1 second'
+                """, from, to);
+    }
+
+    // Deterministic UUIDs with a fixed cardinality per namespace
+    private static String userId(int namespace, int cardinality) {
+        return "('00000000-0000-0000-%04d-' || lpad((g %% %d)::text, 12, '0'))::uuid".formatted(namespace, cardinality);
+    }
+}
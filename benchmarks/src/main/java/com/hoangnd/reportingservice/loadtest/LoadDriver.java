@@ -0,0 +1,133 @@
+package com.hoangnd.reportingservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP driver: each virtual user picks an operation from the weighted mix,
+ * waits for the response and immediately issues the next request until the deadline.
+ */
+public class LoadDriver {
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final String baseUrl;
+    private final List<UUID> pendingReportIds;
+    private final List<UUID> listingIds;
+    private final List<Operation> mix;
+    private final int totalWeight;
+
+    public LoadDriver(String baseUrl, List<UUID> pendingReportIds, List<UUID> listingIds) {
+        this.baseUrl = baseUrl;
+        this.pendingReportIds = pendingReportIds;
+        this.listingIds = listingIds;
+        this.mix = List.of(
+                new Operation("createReport", 15, r -> post("/api/v1/reports", reportJson(r))),
+                new Operation("listPendingReports", 25, r -> get("/api/v1/reports/status/PENDING?size=50")),
+                new Operation("assignReport", 15, r -> put("/api/v1/reports/" + pick(pendingReportIds, r)
+                        + "/assign?adminId=" + UUID.randomUUID())),
+                new Operation("reportStatistics", 15, r -> get("/api/v1/reports/statistics")),
+                new Operation("createFeedback", 10, r -> post("/api/v1/feedback", feedbackJson(r))),
+                new Operation("feedbackByListing", 10, r -> get("/api/v1/feedback/listing/" + pick(listingIds, r))),
+                new Operation("feedbackStatistics", 10, r -> get("/api/v1/feedback/statistics")));
+        this.totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /**
+     * Runs the mix with the given concurrency and returns per-operation stats in mix order
+     */
+    public Map<String, OperationStats> run(int concurrency, Duration duration) throws InterruptedException {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        mix.forEach(operation -> stats.put(operation.name(), new OperationStats()));
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = choose(random.nextInt(totalWeight));
+                        long start = System.nanoTime();
+                        boolean success = execute(operation, random);
+                        stats.get(operation.name()).record(System.nanoTime() - start, success);
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) {
+        try {
+            HttpResponse<Void> response = client.send(operation.request().apply(random),
+                    HttpResponse.BodyHandlers.discarding());
+            // 409 is an expected outcome when two users race for the same pending report
+            return response.statusCode() < 400 || response.statusCode() == 409;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Operation choose(int ticket) {
+        for (Operation operation : mix) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return mix.getLast();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static UUID pick(List<UUID> ids, ThreadLocalRandom random) {
+        return ids.isEmpty() ? UUID.randomUUID() : ids.get(random.nextInt(ids.size()));
+    }
+
+    static String reportJson(ThreadLocalRandom random) {
+        return """
+                {"reporterUserId":"%s","reportedUserId":"%s","reportedEntityType":"LISTING","reportedEntityId":%d,
+                 "reportType":"SPAM","priorityLevel":"MEDIUM","title":"Load test report",
+                 "description":"Created by the load test driver",
+                 "evidences":[{"evidenceType":"IMAGE","fileUrl":"https://cdn.example.com/load.png",
+                               "fileSize":1024,"mimeType":"image/png"}]}
+                """.formatted(UUID.randomUUID(), UUID.randomUUID(), random.nextLong(200_000));
+    }
+
+    private String feedbackJson(ThreadLocalRandom random) {
+        return """
+                {"listingId":"%s","sellerUserId":"%s","checkType":"AI_INITIAL_CHECK",
+                 "feedbackItems":[{"category":"MISSING_DATA","severity":"MINOR","targetAttribute":"title",
+                                   "errorMessage":"Title is missing the district","detectedBy":"AI"}]}
+                """.formatted(pick(listingIds, random), UUID.randomUUID());
+    }
+
+    private record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+}
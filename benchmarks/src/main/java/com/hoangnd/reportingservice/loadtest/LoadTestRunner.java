@@ -0,0 +1,156 @@
+package com.hoangnd.reportingservice.loadtest;
+
+import com.hoangnd.reportingservice.ReportingServiceApplication;
+import com.hoangnd.reportingservice.service.ReportClaimQueue;
+import com.hoangnd.reportingservice.service.StatisticsCache;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * End-to-end load test: boots the service against a fresh embedded Postgres per data size,
+ * seeds it, drives the HTTP API with a production-like mix and writes one JSON report per size.
+ * Each report also compares the same report operations over REST and gRPC (see ProtocolComparison),
+ * run for loadtest.protocol-duration each.
+ *
+ * <pre>
+ * ./mvnw -f pom-all.xml install -DskipTests
+ * ./mvnw -f benchmarks/pom.xml compile exec:java \
+ *     -Dloadtest.rows=100000,1000000,10000000 -Dloadtest.concurrency=64 -Dloadtest.duration=PT2M
+ * </pre>
+ *
+ * Kafka and Redis are pointed at unreachable addresses: outbox rows are still written but the
+ * relay is off, the cache degrades to its local tier, and the numbers measure the service and
+ * its database only.
+ */
+public class LoadTestRunner {
+    private static final Path REPORT_DIR = Path.of("benchmarks", "target", "loadtest");
+    private static final int GRPC_PORT = Integer.getInteger("loadtest.grpc-port", 19083);
+
+    public static void main(String[] args) throws Exception {
+        List<Long> sizes = Arrays.stream(System.getProperty("loadtest.rows", "100000,1000000,10000000").split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .toList();
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT30S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+        Duration protocolDuration = Duration.parse(System.getProperty("loadtest.protocol-duration", "PT1M"));
+
+        JsonMapper mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        Files.createDirectories(REPORT_DIR);
+
+        for (long rows : sizes) {
+            Map<String, Object> report = runAt(rows, concurrency, warmup, duration, protocolDuration);
+            Path file = REPORT_DIR.resolve("report-" + rows + ".json");
+            mapper.writeValue(file.toFile(), report);
+            print(report);
+            System.out.println("Wrote " + file.toAbsolutePath());
+        }
+    }
+
+    private static Map<String, Object> runAt(long rows, int concurrency, Duration warmup, Duration duration,
+                                             Duration protocolDuration) throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("shared_buffers", "512MB")
+                .setServerConfig("max_connections", "200")
+                .start()) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ReportingServiceApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.grpc.server.port=" + GRPC_PORT,
+                            "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres")
+                                    + "?reWriteBatchedInserts=true",
+                            "spring.datasource.username=postgres",
+                            "spring.datasource.password=postgres",
+                            "spring.jpa.show-sql=false",
+                            "spring.kafka.bootstrap-servers=localhost:1",
+                            "reporting.outbox.relay.enabled=false",
+                            "spring.data.redis.port=1",
+                            "logging.level.root=WARN")
+                    .run();
+            try {
+                JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                DataSeeder seeder = new DataSeeder(jdbcTemplate);
+                long seedStart = System.nanoTime();
+                seeder.seed(rows);
+                double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+                // Both were loaded from the empty database at startup and the seed SQL bypasses
+                // their change hooks; re-read them or statistics and claims run against nothing
+                context.getBean(StatisticsCache.class).reconcile();
+                context.getBean(ReportClaimQueue.class).refresh();
+
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                List<UUID> pending = seeder.pendingReportIds(50_000);
+                List<UUID> listings = seeder.listingIds(10_000);
+
+                new LoadDriver(baseUrl, pending, listings).run(concurrency, warmup);
+                Map<String, OperationStats> stats =
+                        new LoadDriver(baseUrl, pending, listings).run(concurrency, duration);
+
+                Map<String, Map<String, OperationStats>> protocolStats;
+                try (ProtocolComparison comparison = new ProtocolComparison(baseUrl, "localhost:" + GRPC_PORT, pending)) {
+                    comparison.run(concurrency, warmup);
+                    protocolStats = comparison.run(concurrency, protocolDuration);
+                }
+
+                double seconds = duration.toMillis() / 1000.0;
+                long total = stats.values().stream().mapToLong(OperationStats::count).sum();
+                Map<String, Object> operations = new LinkedHashMap<>();
+                stats.forEach((name, operation) -> operations.put(name, operation.summary(seconds)));
+                double protocolSeconds = protocolDuration.toMillis() / 1000.0;
+                Map<String, Object> protocols = new LinkedHashMap<>();
+                protocolStats.forEach((name, byProtocol) -> {
+                    Map<String, Object> summaries = new LinkedHashMap<>();
+                    byProtocol.forEach((protocol, operation) -> summaries.put(protocol, operation.summary(protocolSeconds)));
+                    protocols.put(name, summaries);
+                });
+
+                Map<String, Object> report = new LinkedHashMap<>();
+                report.put("rows", rows);
+                report.put("concurrency", concurrency);
+                report.put("durationSeconds", seconds);
+                report.put("seedSeconds", Math.round(seedSeconds));
+                report.put("totalRequests", total);
+                report.put("throughputPerSecond", Math.round(total / seconds));
+                report.put("finishedAt", Instant.now().toString());
+                report.put("operations", operations);
+                report.put("protocolDurationSeconds", protocolSeconds);
+                report.put("protocols", protocols);
+                return report;
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.printf("%n%,d rows, %d users, %,d req/s%n", (Long) report.get("rows"),
+                (Integer) report.get("concurrency"), (Long) report.get("throughputPerSecond"));
+        System.out.printf("%-22s %10s %8s %10s %9s %9s %9s%n", "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        ((Map<String, Map<String, Object>>) report.get("operations")).forEach((name, s) ->
+                System.out.printf("%-22s %10d %8d %10.1f %9.2f %9.2f %9.2f%n", name, s.get("count"), s.get("errors"),
+                        s.get("throughputPerSecond"), s.get("p50Ms"), s.get("p99Ms"), s.get("maxMs")));
+
+        System.out.printf("%n%-22s %10s %9s %9s %10s %9s %9s%n", "REST vs gRPC", "rest req/s", "p50 ms", "p99 ms",
+                "grpc req/s", "p50 ms", "p99 ms");
+        ((Map<String, Map<String, Map<String, Object>>>) report.get("protocols")).forEach((name, p) ->
+                System.out.printf("%-22s %10.1f %9.2f %9.2f %10.1f %9.2f %9.2f%n", name,
+                        p.get("rest").get("throughputPerSecond"), p.get("rest").get("p50Ms"), p.get("rest").get("p99Ms"),
+                        p.get("grpc").get("throughputPerSecond"), p.get("grpc").get("p50Ms"), p.get("grpc").get("p99Ms")));
+    }
+}
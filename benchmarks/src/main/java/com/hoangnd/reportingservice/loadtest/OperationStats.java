@@ -0,0 +1,53 @@
+package com.hoangnd.reportingservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one operation of the load mix.
+ */
+public class OperationStats {
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, boolean success) {
+        latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public long count() {
+        return latencies.getTotalCount();
+    }
+
+    /**
+     * Stable, diffable summary: counts, throughput and latency percentiles in milliseconds
+     */
+    public Map<String, Object> summary(double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", latencies.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSecond", round(latencies.getTotalCount() / elapsedSeconds));
+        summary.put("p50Ms", millis(latencies.getValueAtPercentile(50)));
+        summary.put("p90Ms", millis(latencies.getValueAtPercentile(90)));
+        summary.put("p99Ms", millis(latencies.getValueAtPercentile(99)));
+        summary.put("maxMs", millis(latencies.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
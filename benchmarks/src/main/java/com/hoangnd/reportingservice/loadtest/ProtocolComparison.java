@@ -0,0 +1,185 @@
+package com.hoangnd.reportingservice.loadtest;
+
+import com.google.protobuf.Empty;
+import com.hoangnd.reportingservice.grpc.proto.CreateReportRequest;
+import com.hoangnd.reportingservice.grpc.proto.EvidenceInput;
+import com.hoangnd.reportingservice.grpc.proto.GetReportRequest;
+import com.hoangnd.reportingservice.grpc.proto.ListReportsByStatusRequest;
+import com.hoangnd.reportingservice.grpc.proto.ReportPageItem;
+import com.hoangnd.reportingservice.grpc.proto.ReportServiceGrpc;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * The same report operations over REST and over gRPC against the same seeded database. The
+ * protocols run one after the other with the same concurrency and duration, so their stats
+ * line up side by side. A list reads one 200-report page over REST, and over gRPC the first
+ * 200 reports of ListReportsByStatus before cancelling the stream.
+ */
+public class ProtocolComparison implements AutoCloseable {
+    private static final int PAGE_SIZE = 200;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final ManagedChannel channel;
+    private final ReportServiceGrpc.ReportServiceBlockingStub reports;
+    private final String baseUrl;
+    private final List<UUID> reportIds;
+
+    public ProtocolComparison(String baseUrl, String grpcTarget, List<UUID> reportIds) {
+        this.baseUrl = baseUrl;
+        this.reportIds = reportIds;
+        this.channel = ManagedChannelBuilder.forTarget(grpcTarget).usePlaintext().build();
+        this.reports = ReportServiceGrpc.newBlockingStub(channel);
+    }
+
+    /**
+     * Runs every operation over REST, then over gRPC, and returns stats per operation and protocol
+     */
+    public Map<String, Map<String, OperationStats>> run(int concurrency, Duration duration) throws InterruptedException {
+        Map<String, OperationStats> rest = drive(List.of(
+                new Operation("getReport", r -> send(get("/api/v1/reports/" + pick(r)))),
+                new Operation("listReportsByStatus", r -> send(get("/api/v1/reports/status/PENDING?size=" + PAGE_SIZE))),
+                new Operation("createReport", r -> send(post("/api/v1/reports", LoadDriver.reportJson(r)))),
+                new Operation("reportStatistics", r -> send(get("/api/v1/reports/statistics")))), concurrency, duration);
+        Map<String, OperationStats> grpc = drive(List.of(
+                new Operation("getReport", r -> call(() -> reports.getReport(
+                        GetReportRequest.newBuilder().setReportId(pick(r).toString()).build()))),
+                new Operation("listReportsByStatus", r -> call(this::firstPage)),
+                new Operation("createReport", r -> call(() -> reports.createReport(createRequest(r)))),
+                new Operation("reportStatistics", r -> call(() -> reports.getReportStatistics(Empty.getDefaultInstance())))),
+                concurrency, duration);
+
+        Map<String, Map<String, OperationStats>> byOperation = new LinkedHashMap<>();
+        rest.forEach((name, stats) -> {
+            Map<String, OperationStats> protocols = new LinkedHashMap<>();
+            protocols.put("rest", stats);
+            protocols.put("grpc", grpc.get(name));
+            byOperation.put(name, protocols);
+        });
+        return byOperation;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // Closed loop, as in LoadDriver: each user issues its next call as soon as the last returns
+    private Map<String, OperationStats> drive(List<Operation> operations, int concurrency, Duration duration)
+            throws InterruptedException {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new OperationStats()));
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = operations.get(random.nextInt(operations.size()));
+                        long start = System.nanoTime();
+                        boolean success = operation.call().test(random);
+                        stats.get(operation.name()).record(System.nanoTime() - start, success);
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private int firstPage() throws Exception {
+        // Cancelling the context ends the server stream once the page has been read
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            return context.call(() -> {
+                Iterator<ReportPageItem> items = reports.listReportsByStatus(
+                        ListReportsByStatusRequest.newBuilder().setStatus("PENDING").build());
+                int read = 0;
+                while (read < PAGE_SIZE && items.hasNext()) {
+                    items.next();
+                    read++;
+                }
+                return read;
+            });
+        }
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean call(GrpcCall call) {
+        try {
+            call.run();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private UUID pick(ThreadLocalRandom random) {
+        return reportIds.isEmpty() ? UUID.randomUUID() : reportIds.get(random.nextInt(reportIds.size()));
+    }
+
+    // Same content as LoadDriver.reportJson
+    private static CreateReportRequest createRequest(ThreadLocalRandom random) {
+        return CreateReportRequest.newBuilder()
+                .setReporterUserId(UUID.randomUUID().toString())
+                .setReportedUserId(UUID.randomUUID().toString())
+                .setReportedEntityType("LISTING")
+                .setReportedEntityId(random.nextLong(200_000))
+                .setReportType("SPAM")
+                .setPriorityLevel("MEDIUM")
+                .setTitle("Load test report")
+                .setDescription("Created by the load test driver")
+                .addEvidences(EvidenceInput.newBuilder()
+                        .setEvidenceType("IMAGE")
+                        .setFileUrl("https://cdn.example.com/load.png")
+                        .setFileSize(1024)
+                        .setMimeType("image/png"))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface GrpcCall {
+        Object run() throws Exception;
+    }
+
+    private record Operation(String name, Predicate<ThreadLocalRandom> call) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.hoangnd.reportingservice.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-thread cost of logging for one simulated service call, with 8 concurrent callers:
+ * <ul>
+ *   <li>{@code sync-info}: the old setup, entry and exit lines at INFO through a synchronous appender</li>
+ *   <li>{@code async-info}: the same lines through the AsyncAppender from logback-spring.xml</li>
+ *   <li>{@code sampled}: the new setup, service lines at DEBUG (disabled) and a 1% sampled
+ *       request line through the AsyncAppender</li>
+ * </ul>
+ * Lines are written to target/logging-benchmark.log with immediate flush, like console output.
+ * The async appender drops INFO events when its queue is 80% full, as in production, so
+ * async scores measure what callers pay rather than how many lines reach the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync-info", "async-info", "sampled"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger serviceLog;
+    private Logger requestLog;
+    private UUID reportId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.start();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile("target/logging-benchmark.log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!mode.equals("sync-info")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        serviceLog = context.getLogger("com.hoangnd.reportingservice.service.ReportService");
+        requestLog = context.getLogger("com.hoangnd.reportingservice.logging.SampledRequestLogFilter");
+        reportId = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void serviceCall() {
+        if (mode.equals("sampled")) {
+            serviceLog.debug("Retrieving report with ID: {}", reportId);
+            serviceLog.debug("Report {} status updated from {} to {}", reportId, "PENDING", "IN_REVIEW");
+            if (ThreadLocalRandom.current().nextDouble() < 0.01) {
+                requestLog.info("method={} uri={} status={} durationMs={} statements={} slow={}",
+                        "GET", "/api/v1/reports/{id}", 200, 3, 2, false);
+            }
+        } else {
+            serviceLog.info("Retrieving report with ID: {}", reportId);
+            serviceLog.info("Report {} status updated from {} to {}", reportId, "PENDING", "IN_REVIEW");
+        }
+    }
+}
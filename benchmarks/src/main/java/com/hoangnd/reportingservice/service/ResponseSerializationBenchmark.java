@@ -0,0 +1,53 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.benchmark.SyntheticData;
+import com.hoangnd.reportingservice.mapper.FeedbackMapper;
+import com.hoangnd.reportingservice.mapper.ReportMapper;
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of list responses, the last step of every list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ReportResponse> reports;
+    private List<FeedbackResponse> feedbacks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        reports = SyntheticData.reports(size, 3).stream()
+                .map(ReportMapper.INSTANCE::toResponse)
+                .toList();
+        feedbacks = SyntheticData.feedbacks(size, 3).stream()
+                .map(FeedbackMapper.INSTANCE::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeReports() {
+        return objectMapper.writeValueAsBytes(reports);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedbacks() {
+        return objectMapper.writeValueAsBytes(feedbacks);
+    }
+}
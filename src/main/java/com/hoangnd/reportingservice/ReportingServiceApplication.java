@@ -2,10 +2,14 @@ package com.hoangnd.reportingservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
 @SpringBootApplication
+@EnableAsync
+@EnableScheduling
 public class ReportingServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,226 @@
+package com.hoangnd.reportingservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hoangnd.reportingservice.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache with a per-instance Caffeine tier (L1) in front of a shared Redis tier (L2).
+ * When Redis fails the cache keeps serving from L1 only and retries Redis after a back-off.
+ * <p>
+ * Reads are not transactional, so a reader can load a row, lose the race with an update and
+ * put the old value after the update's eviction. Two guards keep that value out: an eviction
+ * leaves a short-lived tombstone in both tiers that rejects puts, and a put never replaces an
+ * entry with a newer version.
+ * <p>
+ * Evictions are also published on a Redis channel. Every instance drops its L1 copy and sets a
+ * local tombstone when it receives one, so other nodes stop serving the old value at once
+ * instead of after the L1 TTL.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+    private static final String TOMBSTONE = "-";
+
+    // Redis values are "<version>:<json>"; skip the write if a tombstone or a newer version is there
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+              if current == ARGV[4] then return 0 end
+              local sep = string.find(current, ':', 1, true)
+              local version = sep and tonumber(string.sub(current, 1, sep - 1))
+              if version and version > tonumber(ARGV[1]) then return 0 end
+            end
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final String name;
+    private final Class<V> valueType;
+    private final Function<V, LocalDateTime> versionOf;
+    private final Cache<UUID, V> local;
+    private final Cache<UUID, Boolean> localTombstones;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+    private final Duration remoteRetryDelay;
+    private final Duration tombstoneTtl;
+    private final String evictionChannel;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Counter remoteErrors;
+
+    private volatile long remoteDisabledUntil;
+
+    @Builder
+    private TwoLevelCache(String name,
+                          Class<V> valueType,
+                          Function<V, LocalDateTime> versionOf,
+                          Duration localTtl,
+                          long localMaxSize,
+                          Duration remoteTtl,
+                          Duration remoteRetryDelay,
+                          Duration tombstoneTtl,
+                          StringRedisTemplate redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.name = name;
+        this.valueType = valueType;
+        this.versionOf = versionOf;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .build();
+        this.localTombstones = Caffeine.newBuilder()
+                .expireAfterWrite(tombstoneTtl)
+                .maximumSize(localMaxSize)
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = remoteTtl;
+        this.remoteRetryDelay = remoteRetryDelay;
+        this.tombstoneTtl = tombstoneTtl;
+        this.evictionChannel = "reporting:" + name + ":evictions";
+        listenerContainer.addMessageListener((message, pattern) ->
+                        evictLocal(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(evictionChannel));
+
+        this.localHits = requests(meterRegistry, "l1_hit");
+        this.remoteHits = requests(meterRegistry, "l2_hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.remoteErrors = Counter.builder("reporting.cache.remote.errors")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up a value, returning null on a miss in both tiers
+     */
+    public V get(UUID key) {
+        V value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        value = getRemote(key);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(key, value);
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache a freshly loaded value, unless the key was evicted within the tombstone TTL
+     * or a newer version is already cached
+     */
+    public void put(UUID key, V value) {
+        if (localTombstones.getIfPresent(key) != null) {
+            return;
+        }
+        long version = version(value);
+        local.asMap().merge(key, value, (current, loaded) -> version(current) > version ? current : loaded);
+        if (remoteAvailable()) {
+            try {
+                redisTemplate.execute(PUT_SCRIPT, List.of(redisKey(key)), Long.toString(version),
+                        objectMapper.writeValueAsString(value), Long.toString(remoteTtl.toMillis()), TOMBSTONE);
+            } catch (RuntimeException e) {
+                remoteFailed("put", e);
+            }
+        }
+    }
+
+    public void evict(UUID key) {
+        evictLocal(key);
+        if (remoteAvailable()) {
+            try {
+                redisTemplate.opsForValue().set(redisKey(key), TOMBSTONE, tombstoneTtl);
+                redisTemplate.convertAndSend(evictionChannel, key.toString());
+            } catch (RuntimeException e) {
+                remoteFailed("evict", e);
+            }
+        }
+    }
+
+    /**
+     * Evict once the current transaction commits, so readers cannot re-cache the old state
+     */
+    public void evictAfterCommit(UUID key) {
+        AfterCommit.run(() -> evict(key));
+    }
+
+    // Also runs for evictions published by other instances
+    private void evictLocal(UUID key) {
+        localTombstones.put(key, Boolean.TRUE);
+        local.invalidate(key);
+    }
+
+    private V getRemote(UUID key) {
+        if (!remoteAvailable()) {
+            return null;
+        }
+        try {
+            String stored = redisTemplate.opsForValue().get(redisKey(key));
+            if (stored == null || stored.equals(TOMBSTONE)) {
+                return null;
+            }
+            return objectMapper.readValue(stored.substring(stored.indexOf(':') + 1), valueType);
+        } catch (RuntimeException e) {
+            remoteFailed("get", e);
+            return null;
+        }
+    }
+
+    // Microseconds since the epoch, the precision the database stores
+    private long version(V value) {
+        LocalDateTime version = versionOf.apply(value);
+        return version.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + version.getNano() / 1_000;
+    }
+
+    private boolean remoteAvailable() {
+        return System.currentTimeMillis() >= remoteDisabledUntil;
+    }
+
+    // Fall back to L1 only; L1 entries expire on their own TTL meanwhile
+    private void remoteFailed(String operation, RuntimeException e) {
+        remoteErrors.increment();
+        remoteDisabledUntil = System.currentTimeMillis() + remoteRetryDelay.toMillis();
+        log.warn("Redis {} failed for cache {}, using local tier only for {}: {}",
+                operation, name, remoteRetryDelay, e.getMessage());
+    }
+
+    private String redisKey(UUID key) {
+        return "reporting:" + name + ":" + key;
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reporting.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
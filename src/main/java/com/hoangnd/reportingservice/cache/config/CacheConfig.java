@@ -0,0 +1,85 @@
+package com.hoangnd.reportingservice.cache.config;
+
+import com.hoangnd.reportingservice.cache.TwoLevelCache;
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    @Value("${reporting.cache.local.ttl:30s}")
+    private Duration localTtl;
+
+    @Value("${reporting.cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${reporting.cache.remote.ttl:10m}")
+    private Duration remoteTtl;
+
+    @Value("${reporting.cache.remote.retry-delay:30s}")
+    private Duration remoteRetryDelay;
+
+    @Value("${reporting.cache.tombstone-ttl:10s}")
+    private Duration tombstoneTtl;
+
+    /**
+     * Subscriptions for the caches' eviction channels; it keeps reconnecting while Redis is down
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheEvictionListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public TwoLevelCache<ReportResponse> reportCache(StringRedisTemplate redisTemplate,
+                                                     RedisMessageListenerContainer cacheEvictionListenerContainer,
+                                                     ObjectMapper objectMapper,
+                                                     MeterRegistry meterRegistry) {
+        return TwoLevelCache.<ReportResponse>builder()
+                .name("report")
+                .valueType(ReportResponse.class)
+                .versionOf(ReportResponse::version)
+                .localTtl(localTtl)
+                .localMaxSize(localMaxSize)
+                .remoteTtl(remoteTtl)
+                .remoteRetryDelay(remoteRetryDelay)
+                .tombstoneTtl(tombstoneTtl)
+                .redisTemplate(redisTemplate)
+                .listenerContainer(cacheEvictionListenerContainer)
+                .objectMapper(objectMapper)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    @Bean
+    public TwoLevelCache<FeedbackResponse> feedbackCache(StringRedisTemplate redisTemplate,
+                                                         RedisMessageListenerContainer cacheEvictionListenerContainer,
+                                                         ObjectMapper objectMapper,
+                                                         MeterRegistry meterRegistry) {
+        return TwoLevelCache.<FeedbackResponse>builder()
+                .name("feedback")
+                .valueType(FeedbackResponse.class)
+                .versionOf(FeedbackResponse::version)
+                .localTtl(localTtl)
+                .localMaxSize(localMaxSize)
+                .remoteTtl(remoteTtl)
+                .remoteRetryDelay(remoteRetryDelay)
+                .tombstoneTtl(tombstoneTtl)
+                .redisTemplate(redisTemplate)
+                .listenerContainer(cacheEvictionListenerContainer)
+                .objectMapper(objectMapper)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+}
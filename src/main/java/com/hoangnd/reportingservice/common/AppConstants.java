@@ -3,4 +3,21 @@ package com.hoangnd.reportingservice.common;
 public class AppConstants {
     public static  final String API_BASE = "https://estate.maik.io.vn/listing";
 
+    // Keyset pagination
+    public static final String DEFAULT_PAGE_SIZE = "50";
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Bulk ingestion; the flush size matches hibernate.jdbc.batch_size
+    public static final int MAX_BULK_REPORTS = 5000;
+    public static final int BULK_FLUSH_SIZE = 100;
+
+    // Stale queue entries tried per claim before falling back to the table
+    public static final int MAX_CLAIM_ATTEMPTS = 20;
+
+    // Reported users per batch summary lookup
+    public static final int MAX_SUMMARY_BATCH = 500;
+
+    // Streamed list responses: rows per keyset page, each read in its own short transaction
+    public static final int STREAM_CHUNK_SIZE = 500;
+
 }
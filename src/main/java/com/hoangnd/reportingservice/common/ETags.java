@@ -0,0 +1,22 @@
+package com.hoangnd.reportingservice.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Strong entity tags derived from a row's last modification time.
+ * Rounded half-up to microseconds, the way pgjdbc binds a {@link LocalDateTime}, so a tag
+ * computed from an entity still in memory matches the one computed later from the stored row.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(LocalDateTime version) {
+        LocalDateTime stored = version.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+        return "\"" + Long.toHexString(stored.toEpochSecond(ZoneOffset.UTC)) + "."
+                + Integer.toHexString(stored.getNano() / 1000) + "\"";
+    }
+}
@@ -0,0 +1,58 @@
+package com.hoangnd.reportingservice.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque seek position on (created_at, id) used by keyset-paginated list queries.
+ * Clients only ever see the encoded form and pass it back unchanged.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    // Sorts before every real row, so the first page uses the same query as the rest
+    private static final KeysetCursor START =
+            new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L));
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public static KeysetCursor of(LocalDateTime createdAt, UUID id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * Decode a client supplied cursor, or return the start position when absent
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    UUID.fromString(raw.substring(split + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,4 +1,5 @@
 package com.hoangnd.reportingservice.controller;
+import com.hoangnd.reportingservice.common.ETags;
 import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
 import com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest;
 import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
@@ -7,10 +8,12 @@ import com.hoangnd.reportingservice.service.FeedbackService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -31,13 +34,16 @@ public class FeedbackController {
     }
 
     /**
-     * Get feedback by ID
+     * Get feedback by ID; answers 304 when If-None-Match still matches the current version
      * GET /api/v1/feedback/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FeedbackResponse> getFeedbackById(@PathVariable UUID id) throws ResourceNotFoundException {
+    public ResponseEntity<FeedbackResponse> getFeedbackById(@PathVariable UUID id, WebRequest request) throws ResourceNotFoundException {
+        if (request.checkNotModified(feedbackService.getFeedbackETag(id))) {
+            return null;
+        }
         FeedbackResponse response = feedbackService.getFeedbackById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.of(response.version())).body(response);
     }
 
     /**
@@ -45,9 +51,8 @@ public class FeedbackController {
      * GET /api/v1/feedback/listing/{listingId}
      */
     @GetMapping("/listing/{listingId}")
-    public ResponseEntity<List<FeedbackResponse>> getFeedbackByListing(@PathVariable UUID listingId) {
-        List<FeedbackResponse> responses = feedbackService.getFeedbackByListing(listingId);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<StreamingResponseBody> getFeedbackByListing(@PathVariable UUID listingId) {
+        return streamJson(out -> feedbackService.writeFeedbackByListing(listingId, out));
     }
 
     /**
@@ -55,9 +60,8 @@ public class FeedbackController {
      * GET /api/v1/feedback/seller/{sellerId}
      */
     @GetMapping("/seller")
-    public ResponseEntity<List<FeedbackResponse>> getFeedbackBySeller( @RequestHeader("X-User-Id") UUID sellerId) {
-        List<FeedbackResponse> responses = feedbackService.getFeedbackBySeller(sellerId);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<StreamingResponseBody> getFeedbackBySeller( @RequestHeader("X-User-Id") UUID sellerId) {
+        return streamJson(out -> feedbackService.writeFeedbackBySeller(sellerId, out));
     }
 
     /**
@@ -65,9 +69,8 @@ public class FeedbackController {
      * GET /api/v1/feedback/status/{status}
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<FeedbackResponse>> getFeedbackByStatus(@PathVariable FeedbackStatus status) {
-        List<FeedbackResponse> responses = feedbackService.getFeedbackByStatus(status);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<StreamingResponseBody> getFeedbackByStatus(@PathVariable FeedbackStatus status) {
+        return streamJson(out -> feedbackService.writeFeedbackByStatus(status, out));
     }
 
     /**
@@ -75,9 +78,8 @@ public class FeedbackController {
      * GET /api/v1/feedback/pending-reviews
      */
     @GetMapping("/pending-reviews")
-    public ResponseEntity<List<FeedbackResponse>> getPendingReviews() {
-        List<FeedbackResponse> responses = feedbackService.getPendingReviews();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<StreamingResponseBody> getPendingReviews() {
+        return streamJson(feedbackService::writePendingReviews);
     }
 
     /**
@@ -151,4 +153,11 @@ public class FeedbackController {
         FeedbackService.FeedbackStatistics stats = feedbackService.getStatistics();
         return ResponseEntity.ok(stats);
     }
+
+    // List responses are written page by page as they are read instead of being built in memory
+    private static ResponseEntity<StreamingResponseBody> streamJson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
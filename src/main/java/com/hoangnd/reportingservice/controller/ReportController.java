@@ -1,25 +1,49 @@
 package com.hoangnd.reportingservice.controller;
+import com.hoangnd.reportingservice.common.ETags;
 import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import com.hoangnd.reportingservice.model.dto.request.BulkCreateReportRequest;
 import com.hoangnd.reportingservice.model.dto.request.CreateReportRequest;
+import com.hoangnd.reportingservice.model.dto.response.BulkCreateReportResponse;
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
 import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.dto.response.UserReportSummaryResponse;
 import com.hoangnd.reportingservice.model.enums.ReportStatus;
 import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.service.ReportExportService;
 import com.hoangnd.reportingservice.service.ReportService;
+import com.hoangnd.reportingservice.service.ReportStreamBroadcaster;
+import com.hoangnd.reportingservice.service.UserReportSummaryService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static com.hoangnd.reportingservice.common.AppConstants.DEFAULT_PAGE_SIZE;
+import static com.hoangnd.reportingservice.common.AppConstants.MAX_SUMMARY_BATCH;
+
 @RestController
 @RequestMapping("/api/v1/reports")
 @RequiredArgsConstructor
+@Validated
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportStreamBroadcaster streamBroadcaster;
+    private final ReportExportService exportService;
+    private final UserReportSummaryService userReportSummaryService;
 
     /**
      * Create new report
@@ -32,84 +56,136 @@ public class ReportController {
     }
 
     /**
-     * Get report by ID
+     * Create reports in bulk
+     * POST /api/v1/reports/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateReportResponse> createReportsBulk(@Valid @RequestBody BulkCreateReportRequest request) {
+        BulkCreateReportResponse response = reportService.createReportsBulk(request.getReports());
+        HttpStatus status = response.getFailures().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Get report by ID; answers 304 when If-None-Match still matches the current version
      * GET /api/v1/reports/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ReportResponse> getReportById(@PathVariable UUID id) throws ResourceNotFoundException {
+    public ResponseEntity<ReportResponse> getReportById(@PathVariable UUID id, WebRequest request) throws ResourceNotFoundException {
+        if (request.checkNotModified(reportService.getReportETag(id))) {
+            return null;
+        }
         ReportResponse response = reportService.getReportById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.of(response.version())).body(response);
     }
 
     /**
      * Get reports by reporter
-     * GET /api/v1/reports/reporter/{reporterId}
+     * GET /api/v1/reports/reporter/{reporterId}?cursor=&size=
      */
     @GetMapping("/reporter/{reporterId}")
-    public ResponseEntity<List<ReportResponse>> getReportsByReporter(@PathVariable UUID reporterId) {
-        List<ReportResponse> responses = reportService.getReportsByReporter(reporterId);
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsByReporter(
+            @PathVariable UUID reporterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsByReporter(reporterId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
      * Get reports against a user
-     * GET /api/v1/reports/reported-user/{userId}
+     * GET /api/v1/reports/reported-user/{userId}?cursor=&size=
      */
     @GetMapping("/reported-user/{userId}")
-    public ResponseEntity<List<ReportResponse>> getReportsAgainstUser(@PathVariable UUID userId) {
-        List<ReportResponse> responses = reportService.getReportsAgainstUser(userId);
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsAgainstUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsAgainstUser(userId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Get the report summary of a user (trust check)
+     * GET /api/v1/reports/reported-user/{userId}/summary
+     */
+    @GetMapping("/reported-user/{userId}/summary")
+    public ResponseEntity<UserReportSummaryResponse> getUserReportSummary(@PathVariable UUID userId) {
+        return ResponseEntity.ok(userReportSummaryService.getSummary(userId));
+    }
+
+    /**
+     * Get report summaries for many users at once, in request order
+     * POST /api/v1/reports/reported-user/summary
+     */
+    @PostMapping("/reported-user/summary")
+    public ResponseEntity<List<UserReportSummaryResponse>> getUserReportSummaries(
+            @RequestBody @Size(max = MAX_SUMMARY_BATCH, message = "At most " + MAX_SUMMARY_BATCH + " users per request")
+            List<UUID> userIds) {
+        return ResponseEntity.ok(userReportSummaryService.getSummaries(userIds));
+    }
+
     /**
      * Get reports by status
-     * GET /api/v1/reports/status/{status}
+     * GET /api/v1/reports/status/{status}?cursor=&size=
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ReportResponse>> getReportsByStatus(@PathVariable ReportStatus status) {
-        List<ReportResponse> responses = reportService.getReportsByStatus(status);
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsByStatus(
+            @PathVariable ReportStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsByStatus(status, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
      * Get reports for a specific entity
-     * GET /api/v1/reports/entity/{entityType}/{entityId}
+     * GET /api/v1/reports/entity/{entityType}/{entityId}?cursor=&size=
      */
     @GetMapping("/entity/{entityType}/{entityId}")
-    public ResponseEntity<List<ReportResponse>> getReportsByEntity(
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsByEntity(
             @PathVariable ReportedEntityType entityType,
-            @PathVariable Long entityId) {
-        List<ReportResponse> responses = reportService.getReportsByEntity(entityType, entityId);
+            @PathVariable Long entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsByEntity(entityType, entityId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
      * Get reports assigned to admin
-     * GET /api/v1/reports/assigned/{adminId}
+     * GET /api/v1/reports/assigned/{adminId}?cursor=&size=
      */
     @GetMapping("/assigned/{adminId}")
-    public ResponseEntity<List<ReportResponse>> getReportsByAssignedAdmin(@PathVariable UUID adminId) {
-        List<ReportResponse> responses = reportService.getReportsByAssignedAdmin(adminId);
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsByAssignedAdmin(
+            @PathVariable UUID adminId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsByAssignedAdmin(adminId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
      * Get unassigned reports
-     * GET /api/v1/reports/unassigned
+     * GET /api/v1/reports/unassigned?cursor=&size=
      */
     @GetMapping("/unassigned")
-    public ResponseEntity<List<ReportResponse>> getUnassignedReports() {
-        List<ReportResponse> responses = reportService.getUnassignedReports();
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getUnassignedReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getUnassignedReports(cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
      * Get reports needing attention
-     * GET /api/v1/reports/needs-attention
+     * GET /api/v1/reports/needs-attention?cursor=&size=
      */
     @GetMapping("/needs-attention")
-    public ResponseEntity<List<ReportResponse>> getReportsNeedingAttention() {
-        List<ReportResponse> responses = reportService.getReportsNeedingAttention();
+    public ResponseEntity<CursorPageResponse<ReportResponse>> getReportsNeedingAttention(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<ReportResponse> responses = reportService.getReportsNeedingAttention(cursor, size);
         return ResponseEntity.ok(responses);
     }
 
@@ -126,6 +202,17 @@ public class ReportController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Claim the next report in priority order for an admin
+     * POST /api/v1/reports/claim-next?adminId= (204 when nothing is claimable)
+     */
+    @PostMapping("/claim-next")
+    public ResponseEntity<ReportResponse> claimNextReport(@RequestParam UUID adminId) {
+        return reportService.claimNextReport(adminId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     /**
      * Update report status
      * PUT /api/v1/reports/{id}/status
@@ -198,4 +285,36 @@ public class ReportController {
         ReportService.ReportStatistics stats = reportService.getStatistics();
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Stream report changes and statistics heartbeats to moderator dashboards
+     * GET /api/v1/reports/stream (resume with the Last-Event-ID header)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReportChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return streamBroadcaster.subscribe(lastEventId);
+    }
+
+    /**
+     * Export reports with their audit trail, streamed as rows are read
+     * GET /api/v1/reports/export?from=&to=&field=createdAt|resolvedAt&format=ndjson|csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "createdAt") String field,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ReportExportService.Format exportFormat = ReportExportService.Format.from(format);
+        ReportExportService.DateField dateField = ReportExportService.DateField.from(field);
+        exportService.validateRange(from, to);
+
+        StreamingResponseBody body = out -> exportService.export(exportFormat, dateField, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reports." + exportFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
 }
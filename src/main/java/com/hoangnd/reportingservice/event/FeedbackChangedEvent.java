@@ -0,0 +1,57 @@
+package com.hoangnd.reportingservice.event;
+
+import com.hoangnd.reportingservice.model.entity.Feedback;
+import com.hoangnd.reportingservice.model.enums.CheckType;
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by FeedbackService for every mutation of a feedback, the counterpart of ReportChangedEvent.
+ */
+@Value
+@Builder
+public class FeedbackChangedEvent {
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        ITEM_FIXED,
+        DELETED
+    }
+
+    Type type;
+    UUID feedbackId;
+    UUID listingId;
+    UUID sellerUserId;
+    CheckType checkType;
+    FeedbackStatus previousStatus;
+    FeedbackStatus status;
+    UUID reviewedByStaffId;
+    LocalDateTime occurredAt;
+
+    public static FeedbackChangedEvent of(Type type, Feedback feedback, FeedbackStatus previousStatus) {
+        return FeedbackChangedEvent.builder()
+                .type(type)
+                .feedbackId(feedback.getFeedbackId())
+                .listingId(feedback.getListingId())
+                .sellerUserId(feedback.getSellerUserId())
+                .checkType(feedback.getCheckType())
+                .previousStatus(previousStatus)
+                .status(feedback.getFeedbackStatus())
+                .reviewedByStaffId(feedback.getReviewedByStaffId())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static FeedbackChangedEvent deleted(UUID feedbackId, FeedbackStatus previousStatus) {
+        return FeedbackChangedEvent.builder()
+                .type(Type.DELETED)
+                .feedbackId(feedbackId)
+                .previousStatus(previousStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.hoangnd.reportingservice.event;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by ReportService for every mutation of a report; listeners that act on it
+ * outside the database bind to the transaction phase so rolled-back changes never leak.
+ */
+@Value
+@Builder
+public class ReportChangedEvent {
+    public enum Type {
+        CREATED,
+        ASSIGNED,
+        STATUS_CHANGED,
+        RESOLVED,
+        DELETED
+    }
+
+    Type type;
+    UUID reportId;
+    UUID reportedUserId;
+    ReportType reportType;
+    PriorityLevel priorityLevel;
+    ReportStatus previousStatus;
+    ReportStatus status;
+    UUID assignedAdminId;
+    LocalDateTime createdAt;
+    LocalDateTime occurredAt;
+
+    public static ReportChangedEvent of(Type type, Report report, ReportStatus previousStatus) {
+        return ReportChangedEvent.builder()
+                .type(type)
+                .reportId(report.getReportId())
+                .reportedUserId(report.getReportedUserId())
+                .reportType(report.getReportType())
+                .priorityLevel(report.getPriorityLevel())
+                .previousStatus(previousStatus)
+                .status(report.getStatus())
+                .assignedAdminId(report.getAssignedAdminId())
+                .createdAt(report.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static ReportChangedEvent deleted(Report report) {
+        return ReportChangedEvent.builder()
+                .type(Type.DELETED)
+                .reportId(report.getReportId())
+                .reportedUserId(report.getReportedUserId())
+                .reportType(report.getReportType())
+                .priorityLevel(report.getPriorityLevel())
+                .previousStatus(report.getStatus())
+                .createdAt(report.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.hoangnd.reportingservice.grpc;
+
+import com.google.protobuf.Empty;
+import com.hoangnd.reportingservice.common.AppConstants;
+import com.hoangnd.reportingservice.grpc.proto.CreateFeedbackRequest;
+import com.hoangnd.reportingservice.grpc.proto.Feedback;
+import com.hoangnd.reportingservice.grpc.proto.FeedbackServiceGrpc;
+import com.hoangnd.reportingservice.grpc.proto.FeedbackStatistics;
+import com.hoangnd.reportingservice.grpc.proto.GetFeedbackRequest;
+import com.hoangnd.reportingservice.grpc.proto.ListFeedbackByStatusRequest;
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import com.hoangnd.reportingservice.service.FeedbackService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * gRPC endpoint for internal callers, backed by the same FeedbackService as FeedbackController
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedbackGrpcService extends FeedbackServiceGrpc.FeedbackServiceImplBase {
+
+    private final FeedbackService feedbackService;
+    private final Validator validator;
+
+    @Override
+    public void createFeedback(CreateFeedbackRequest request, StreamObserver<Feedback> responseObserver) {
+        try {
+            var dto = GrpcErrors.validate(validator, GrpcMapper.fromProto(request));
+            responseObserver.onNext(GrpcMapper.toProto(feedbackService.createFeedback(dto)));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+
+    @Override
+    public void getFeedback(GetFeedbackRequest request, StreamObserver<Feedback> responseObserver) {
+        try {
+            FeedbackResponse feedback = feedbackService.getFeedbackById(UUID.fromString(request.getFeedbackId()));
+            responseObserver.onNext(GrpcMapper.toProto(feedback));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+
+    /**
+     * Streams keyset pages of MAX_PAGE_SIZE feedback with the status. The next page is only
+     * read once the transport is ready again, so a slow client holds neither a connection
+     * nor more than one page.
+     */
+    @Override
+    public void listFeedbackByStatus(ListFeedbackByStatusRequest request, StreamObserver<Feedback> responseObserver) {
+        var call = (ServerCallStreamObserver<Feedback>) responseObserver;
+        FeedbackStatus status;
+        try {
+            status = FeedbackStatus.valueOf(request.getStatus());
+        } catch (IllegalArgumentException e) {
+            call.onError(GrpcErrors.toStatus(e));
+            return;
+        }
+
+        var state = new Object() {
+            String cursor;
+            boolean done;
+        };
+        call.setOnCancelHandler(() -> state.done = true);
+        // Ready callbacks are serialized per call, so the state needs no locking
+        call.setOnReadyHandler(() -> {
+            try {
+                while (!state.done && call.isReady()) {
+                    CursorPageResponse<FeedbackResponse> page =
+                            feedbackService.getFeedbackByStatus(status, state.cursor, AppConstants.MAX_PAGE_SIZE);
+                    for (FeedbackResponse feedback : page.getItems()) {
+                        call.onNext(GrpcMapper.toProto(feedback));
+                    }
+                    if (!page.isHasNext()) {
+                        state.done = true;
+                        call.onCompleted();
+                    } else {
+                        state.cursor = page.getNextCursor();
+                    }
+                }
+            } catch (Exception e) {
+                state.done = true;
+                call.onError(GrpcErrors.toStatus(e));
+            }
+        });
+    }
+
+    @Override
+    public void getFeedbackStatistics(Empty request, StreamObserver<FeedbackStatistics> responseObserver) {
+        try {
+            responseObserver.onNext(GrpcMapper.toProto(feedbackService.getStatistics()));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+}
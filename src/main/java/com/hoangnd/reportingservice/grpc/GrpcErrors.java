@@ -0,0 +1,44 @@
+package com.hoangnd.reportingservice.grpc;
+
+import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Set;
+
+/**
+ * gRPC counterpart of GlobalExceptionHandler: maps service exceptions to status codes
+ */
+@Slf4j
+final class GrpcErrors {
+
+    private GrpcErrors() {
+    }
+
+    static <T> T validate(Validator validator, T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    static StatusRuntimeException toStatus(Exception e) {
+        Status status = switch (e) {
+            case ResourceNotFoundException ignored -> Status.NOT_FOUND;
+            case ConstraintViolationException ignored -> Status.INVALID_ARGUMENT;
+            case IllegalArgumentException ignored -> Status.INVALID_ARGUMENT;
+            case OptimisticLockingFailureException ignored -> Status.ABORTED;
+            default -> {
+                log.error("Unexpected error in gRPC call", e);
+                yield Status.INTERNAL;
+            }
+        };
+        return status.withDescription(e.getMessage()).asRuntimeException();
+    }
+}
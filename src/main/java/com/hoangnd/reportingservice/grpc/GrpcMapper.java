@@ -0,0 +1,198 @@
+package com.hoangnd.reportingservice.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.hoangnd.reportingservice.grpc.proto.CreateFeedbackRequest;
+import com.hoangnd.reportingservice.grpc.proto.CreateReportRequest;
+import com.hoangnd.reportingservice.grpc.proto.Evidence;
+import com.hoangnd.reportingservice.grpc.proto.Feedback;
+import com.hoangnd.reportingservice.grpc.proto.FeedbackItem;
+import com.hoangnd.reportingservice.grpc.proto.FeedbackStatistics;
+import com.hoangnd.reportingservice.grpc.proto.Report;
+import com.hoangnd.reportingservice.grpc.proto.ReportStatistics;
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.enums.*;
+import com.hoangnd.reportingservice.service.FeedbackService;
+import com.hoangnd.reportingservice.service.ReportService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Converts between the protobuf messages and the REST DTOs, so both APIs share the same
+ * service methods. Malformed ids, enum names and decimals raise IllegalArgumentException.
+ */
+final class GrpcMapper {
+
+    private GrpcMapper() {
+    }
+
+    // Report
+    static com.hoangnd.reportingservice.model.dto.request.CreateReportRequest fromProto(CreateReportRequest request) {
+        return com.hoangnd.reportingservice.model.dto.request.CreateReportRequest.builder()
+                .reporterUserId(uuid(request.getReporterUserId()))
+                .reportedUserId(request.hasReportedUserId() ? uuid(request.getReportedUserId()) : null)
+                .reportedEntityType(enumValue(ReportedEntityType.class, request.getReportedEntityType()))
+                .reportedEntityId(request.getReportedEntityId())
+                .reportType(enumValue(ReportType.class, request.getReportType()))
+                .priorityLevel(enumValue(PriorityLevel.class, request.getPriorityLevel()))
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .aiSeverityScore(request.hasAiSeverityScore() ? new BigDecimal(request.getAiSeverityScore()) : null)
+                .evidences(request.getEvidencesList().stream()
+                        .map(evidence -> com.hoangnd.reportingservice.model.dto.request.CreateReportRequest.EvidenceRequest.builder()
+                                .evidenceType(enumValue(EvidenceType.class, evidence.getEvidenceType()))
+                                .fileUrl(evidence.getFileUrl())
+                                .fileSize(evidence.getFileSize())
+                                .mimeType(evidence.getMimeType())
+                                .description(evidence.hasDescription() ? evidence.getDescription() : null)
+                                .metadata(evidence.hasMetadata() ? evidence.getMetadata() : null)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    static Report toProto(ReportResponse report) {
+        Report.Builder builder = Report.newBuilder()
+                .setReportId(report.reportId().toString())
+                .setReporterUserId(report.reporterUserId().toString())
+                .setReportedEntityType(report.reportedEntityType().name())
+                .setReportedEntityId(report.reportedEntityId())
+                .setReportType(report.reportType().name())
+                .setPriorityLevel(report.priorityLevel().name())
+                .setStatus(report.status().name())
+                .setTitle(report.title())
+                .setDescription(report.description())
+                .setAiVerified(report.aiVerified());
+        ifPresent(report.reportedUserId(), id -> builder.setReportedUserId(id.toString()));
+        ifPresent(report.assignedAdminId(), id -> builder.setAssignedAdminId(id.toString()));
+        ifPresent(report.resolutionNotes(), builder::setResolutionNotes);
+        ifPresent(report.createdAt(), time -> builder.setCreatedAt(timestamp(time)));
+        ifPresent(report.updatedAt(), time -> builder.setUpdatedAt(timestamp(time)));
+        ifPresent(report.resolvedAt(), time -> builder.setResolvedAt(timestamp(time)));
+        ifPresent(report.aiSeverityScore(), score -> builder.setAiSeverityScore(score.toPlainString()));
+        if (report.evidences() != null) {
+            report.evidences().forEach(evidence -> builder.addEvidences(toProto(evidence)));
+        }
+        return builder.build();
+    }
+
+    static Evidence toProto(ReportResponse.EvidenceResponse evidence) {
+        Evidence.Builder builder = Evidence.newBuilder()
+                .setEvidenceId(evidence.evidenceId().toString())
+                .setEvidenceType(evidence.evidenceType().name())
+                .setFileUrl(evidence.fileUrl())
+                .setFileSize(evidence.fileSize())
+                .setMimeType(evidence.mimeType())
+                .setVerified(evidence.verified());
+        ifPresent(evidence.description(), builder::setDescription);
+        ifPresent(evidence.metadata(), builder::setMetadata);
+        ifPresent(evidence.uploadedAt(), time -> builder.setUploadedAt(timestamp(time)));
+        ifPresent(evidence.verificationNotes(), builder::setVerificationNotes);
+        return builder.build();
+    }
+
+    static ReportStatistics toProto(ReportService.ReportStatistics statistics) {
+        return ReportStatistics.newBuilder()
+                .setTotalReports(statistics.getTotalReports())
+                .setPendingCount(statistics.getPendingCount())
+                .setInReviewCount(statistics.getInReviewCount())
+                .setUnderReviewCount(statistics.getUnderReviewCount())
+                .setEscalatedCount(statistics.getEscalatedCount())
+                .setResolvedCount(statistics.getResolvedCount())
+                .setRejectedCount(statistics.getRejectedCount())
+                .build();
+    }
+
+    // Feedback
+    static com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest fromProto(CreateFeedbackRequest request) {
+        return com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest.builder()
+                .listingId(uuid(request.getListingId()))
+                .sellerUserId(uuid(request.getSellerUserId()))
+                .checkType(enumValue(CheckType.class, request.getCheckType()))
+                .aiConfidenceScore(request.hasAiConfidenceScore() ? new BigDecimal(request.getAiConfidenceScore()) : null)
+                .previousFeedbackId(request.hasPreviousFeedbackId() ? uuid(request.getPreviousFeedbackId()) : null)
+                .feedbackItems(request.getFeedbackItemsList().stream()
+                        .map(item -> com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest.FeedbackItemRequest.builder()
+                                .category(enumValue(Category.class, item.getCategory()))
+                                .severity(enumValue(Severity.class, item.getSeverity()))
+                                .targetAttribute(item.getTargetAttribute())
+                                .errorMessage(item.getErrorMessage())
+                                .suggestion(item.hasSuggestion() ? item.getSuggestion() : null)
+                                .detectedBy(enumValue(DetectedBy.class, item.getDetectedBy()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    static Feedback toProto(FeedbackResponse feedback) {
+        Feedback.Builder builder = Feedback.newBuilder()
+                .setFeedbackId(feedback.feedbackId().toString())
+                .setListingId(feedback.listingId().toString())
+                .setSellerUserId(feedback.sellerUserId().toString())
+                .setStatus(feedback.feedbackStatus().name())
+                .setResubmission(feedback.resubmission());
+        ifPresent(feedback.checkType(), type -> builder.setCheckType(type.name()));
+        ifPresent(feedback.aiConfidenceScore(), score -> builder.setAiConfidenceScore(score.toPlainString()));
+        ifPresent(feedback.createdAt(), time -> builder.setCreatedAt(timestamp(time)));
+        ifPresent(feedback.reviewedByStaffId(), id -> builder.setReviewedByStaffId(id.toString()));
+        ifPresent(feedback.previousFeedbackId(), id -> builder.setPreviousFeedbackId(id.toString()));
+        if (feedback.feedbackItems() != null) {
+            feedback.feedbackItems().forEach(item -> builder.addFeedbackItems(toProto(item)));
+        }
+        return builder.build();
+    }
+
+    static FeedbackItem toProto(FeedbackResponse.FeedbackItemResponse item) {
+        FeedbackItem.Builder builder = FeedbackItem.newBuilder()
+                .setFeedbackItemId(item.feedbackItemId().toString())
+                .setCategory(item.category().name())
+                .setSeverity(item.severity().name())
+                .setTargetAttribute(item.targetAttribute())
+                .setErrorMessage(item.errorMessage())
+                .setDetectedBy(item.detectedBy().name())
+                .setFixed(item.fixed());
+        ifPresent(item.suggestion(), builder::setSuggestion);
+        ifPresent(item.createdAt(), time -> builder.setCreatedAt(timestamp(time)));
+        return builder.build();
+    }
+
+    static FeedbackStatistics toProto(FeedbackService.FeedbackStatistics statistics) {
+        return FeedbackStatistics.newBuilder()
+                .setTotalFeedback(statistics.getTotalFeedback())
+                .setPendingCount(statistics.getPendingCount())
+                .setApprovedCount(statistics.getApprovedCount())
+                .setApprovedWithNotesCount(statistics.getApprovedWithNotesCount())
+                .setNeedsRevisionCount(statistics.getNeedsRevisionCount())
+                .setResubmittedCount(statistics.getResubmittedCount())
+                .setRejectedCount(statistics.getRejectedCount())
+                .setResolvedCount(statistics.getResolvedCount())
+                .build();
+    }
+
+    // Empty strings are proto3 defaults for "not sent": map them to null and let validation report it
+    static UUID uuid(String value) {
+        return value.isEmpty() ? null : UUID.fromString(value);
+    }
+
+    static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value.isEmpty() ? null : Enum.valueOf(type, value);
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        var instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static <T> void ifPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
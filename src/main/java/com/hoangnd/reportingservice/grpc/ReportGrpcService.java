@@ -0,0 +1,113 @@
+package com.hoangnd.reportingservice.grpc;
+
+import com.google.protobuf.Empty;
+import com.hoangnd.reportingservice.common.AppConstants;
+import com.hoangnd.reportingservice.common.KeysetCursor;
+import com.hoangnd.reportingservice.grpc.proto.CreateReportRequest;
+import com.hoangnd.reportingservice.grpc.proto.GetReportRequest;
+import com.hoangnd.reportingservice.grpc.proto.ListReportsByStatusRequest;
+import com.hoangnd.reportingservice.grpc.proto.Report;
+import com.hoangnd.reportingservice.grpc.proto.ReportPageItem;
+import com.hoangnd.reportingservice.grpc.proto.ReportServiceGrpc;
+import com.hoangnd.reportingservice.grpc.proto.ReportStatistics;
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.service.ReportService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * gRPC endpoint for internal callers, backed by the same ReportService as ReportController
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportGrpcService extends ReportServiceGrpc.ReportServiceImplBase {
+
+    private final ReportService reportService;
+    private final Validator validator;
+
+    @Override
+    public void createReport(CreateReportRequest request, StreamObserver<Report> responseObserver) {
+        try {
+            var dto = GrpcErrors.validate(validator, GrpcMapper.fromProto(request));
+            responseObserver.onNext(GrpcMapper.toProto(reportService.createReport(dto)));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+
+    @Override
+    public void getReport(GetReportRequest request, StreamObserver<Report> responseObserver) {
+        try {
+            ReportResponse report = reportService.getReportById(UUID.fromString(request.getReportId()));
+            responseObserver.onNext(GrpcMapper.toProto(report));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+
+    /**
+     * Streams keyset pages of MAX_PAGE_SIZE reports. The next page is only read once the
+     * transport is ready again, so a slow client holds at most one page in memory.
+     */
+    @Override
+    public void listReportsByStatus(ListReportsByStatusRequest request, StreamObserver<ReportPageItem> responseObserver) {
+        var call = (ServerCallStreamObserver<ReportPageItem>) responseObserver;
+        ReportStatus status;
+        try {
+            status = ReportStatus.valueOf(request.getStatus());
+            KeysetCursor.decode(request.getCursor());
+        } catch (IllegalArgumentException e) {
+            call.onError(GrpcErrors.toStatus(e));
+            return;
+        }
+
+        var state = new Object() {
+            String cursor = request.getCursor();
+            boolean done;
+        };
+        call.setOnCancelHandler(() -> state.done = true);
+        // Ready callbacks are serialized per call, so the state needs no locking
+        call.setOnReadyHandler(() -> {
+            try {
+                while (!state.done && call.isReady()) {
+                    CursorPageResponse<ReportResponse> page =
+                            reportService.getReportsByStatus(status, state.cursor, AppConstants.MAX_PAGE_SIZE);
+                    for (ReportResponse report : page.getItems()) {
+                        call.onNext(ReportPageItem.newBuilder()
+                                .setReport(GrpcMapper.toProto(report))
+                                .setCursor(KeysetCursor.of(report.createdAt(), report.reportId()).encode())
+                                .build());
+                    }
+                    if (!page.isHasNext()) {
+                        state.done = true;
+                        call.onCompleted();
+                    } else {
+                        state.cursor = page.getNextCursor();
+                    }
+                }
+            } catch (Exception e) {
+                state.done = true;
+                call.onError(GrpcErrors.toStatus(e));
+            }
+        });
+    }
+
+    @Override
+    public void getReportStatistics(Empty request, StreamObserver<ReportStatistics> responseObserver) {
+        try {
+            responseObserver.onNext(GrpcMapper.toProto(reportService.getStatistics()));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(GrpcErrors.toStatus(e));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.hoangnd.reportingservice.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly audit partitions (V6 migration) in shape: creates the coming months
+ * ahead of time so rows never land in the DEFAULT partition, and detaches (and by default
+ * drops) months older than the retention period. Runs at startup and daily; a session
+ * advisory lock makes sure only one instance changes partitions at a time.
+ * <p>
+ * Expired months are detached with DETACH PARTITION ... CONCURRENTLY, which cannot run in a
+ * transaction, so everything here runs on one autocommit connection. Postgres also refuses a
+ * concurrent detach while the table has a DEFAULT partition, so the (empty) DEFAULT partition
+ * is detached for the duration and attached again afterwards. A table whose DEFAULT partition
+ * holds rows is left alone until those rows are moved into their month.
+ */
+@Component
+@Slf4j
+public class AuditPartitionMaintenance {
+    private static final List<String> AUDIT_TABLES = List.of("report_audit", "feedback_audit");
+    private static final long LOCK_KEY = 0x6175646974000000L;
+    // Bounds the waits for the exclusive locks taken while the DEFAULT partition is swapped out
+    private static final String LOCK_TIMEOUT = "5s";
+
+    // Monthly partitions before the cutoff month; detach_pending marks an interrupted concurrent detach
+    private static final String EXPIRED_PARTITIONS = """
+            SELECT c.relname, i.inhdetachpending
+            FROM pg_inherits i
+                     JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = ?::regclass
+              AND c.relname ~ ('^' || ? || '_p[0-9]{6}$')
+              AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', ?::date)
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropDetached;
+
+    public AuditPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     @Value("${reporting.audit.partitions.months-ahead:3}") int monthsAhead,
+                                     @Value("${reporting.audit.partitions.retention-months:24}") int retentionMonths,
+                                     @Value("${reporting.audit.partitions.drop-detached:true}") boolean dropDetached) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropDetached = dropDetached;
+    }
+
+    /**
+     * Create upcoming partitions and retire expired ones for every audit table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reporting.audit.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Audit partition maintenance running elsewhere, skipping");
+                    return null;
+                }
+                try {
+                    for (String table : AUDIT_TABLES) {
+                        maintain(session, table, today);
+                    }
+                } finally {
+                    session.execute("RESET lock_timeout");
+                    session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, LOCK_KEY);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void maintain(JdbcTemplate session, String table, LocalDate today) {
+        String defaultPartition = table + "_default";
+        session.execute("SET lock_timeout = '" + LOCK_TIMEOUT + "'");
+        // A previous run may have stopped while the DEFAULT partition was detached
+        attachDefault(session, table, defaultPartition);
+
+        // Creating a month scans the DEFAULT partition under lock and fails if rows for that month sit there
+        Boolean misplaced = session.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + defaultPartition + ")", Boolean.class);
+        if (Boolean.TRUE.equals(misplaced)) {
+            log.warn("Audit partitions for {}: {} is not empty, move its rows into monthly partitions first",
+                    table, defaultPartition);
+            return;
+        }
+        Integer created = session.queryForObject("SELECT create_monthly_partitions(?, ?, ?)",
+                Integer.class, table, Date.valueOf(today), Date.valueOf(today.plusMonths(monthsAhead)));
+
+        List<ExpiredPartition> expired = session.query(EXPIRED_PARTITIONS,
+                (rs, rowNum) -> new ExpiredPartition(rs.getString(1), rs.getBoolean(2)),
+                table, table, Date.valueOf(today.minusMonths(retentionMonths)));
+        if (!expired.isEmpty()) {
+            session.execute("ALTER TABLE " + table + " DETACH PARTITION " + defaultPartition);
+            try {
+                // The concurrent detach waits for readers instead of blocking them, so it runs without a timeout
+                session.execute("RESET lock_timeout");
+                for (ExpiredPartition partition : expired) {
+                    session.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name()
+                            + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+                    if (dropDetached) {
+                        session.execute("DROP TABLE " + partition.name());
+                    }
+                }
+            } finally {
+                session.execute("SET lock_timeout = '" + LOCK_TIMEOUT + "'");
+                attachDefault(session, table, defaultPartition);
+            }
+        }
+        log.info("Audit partitions for {}: {} created, {} {}", table, created, expired.size(),
+                dropDetached ? "dropped" : "detached");
+    }
+
+    private void attachDefault(JdbcTemplate session, String table, String defaultPartition) {
+        Boolean detached = session.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = ?::regclass)",
+                Boolean.class, defaultPartition);
+        if (Boolean.TRUE.equals(detached)) {
+            session.execute("ALTER TABLE " + table + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+        }
+    }
+
+    private record ExpiredPartition(String name, boolean detachPending) {
+    }
+}
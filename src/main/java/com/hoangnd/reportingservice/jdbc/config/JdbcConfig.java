@@ -0,0 +1,32 @@
+package com.hoangnd.reportingservice.jdbc.config;
+
+import com.hoangnd.reportingservice.jdbc.BoundedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class JdbcConfig {
+
+    /**
+     * Wrap the Hikari pool in a semaphore sized to maximum-pool-size when requests run on virtual threads
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new BoundedDataSource(hikari, hikari.getMaximumPoolSize(),
+                            hikari.getConnectionTimeout(), meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.hoangnd.reportingservice.kafka.config;
+
+import jakarta.validation.ConstraintViolationException;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+import tools.jackson.core.JacksonException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaConsumerConfig {
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${reporting.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${reporting.kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${reporting.kafka.consumer.max-retry-ms:300000}")
+    private long maxRetryMs;
+
+    @Value("${reporting.kafka.topics.partitions:6}")
+    private int partitions;
+
+    @Value("${reporting.kafka.topics.ai-feedback-dlt}")
+    private String aiFeedbackDeadLetterTopic;
+
+    @Bean
+    public ConsumerFactory<String, String> batchConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public NewTopic aiFeedbackDeadLetterTopic() {
+        return TopicBuilder.name(aiFeedbackDeadLetterTopic).partitions(partitions).build();
+    }
+
+    /**
+     * Batch listeners: one poll is handed over as a list and its offsets are committed only
+     * after the listener returns, i.e. after the database transaction for the batch committed.
+     * A failing batch is retried with exponential back-off for at most max-retry-ms; a record
+     * the listener reports as failed (BatchListenerFailedException) is retried on its own, and
+     * whatever is still failing then goes to the dead-letter topic so the partition moves on.
+     * Invalid payloads and database constraint violations are not retried, they cannot succeed
+     * on redelivery.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchListenerContainerFactory(
+            KafkaTemplate<String, String> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(1_000, 2.0);
+        backOff.setMaxInterval(30_000);
+        backOff.setMaxElapsedTime(maxRetryMs);
+        // Negative partition: let the producer pick one, the dead-letter topic need not mirror the source
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(aiFeedbackDeadLetterTopic, -1));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(DataIntegrityViolationException.class,
+                JacksonException.class, ConstraintViolationException.class);
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+}
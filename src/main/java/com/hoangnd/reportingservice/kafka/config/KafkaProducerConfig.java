@@ -1,9 +1,12 @@
 package com.hoangnd.reportingservice.kafka.config;
 
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -13,17 +16,65 @@ import java.util.Map;
 
 @Configuration
 public class KafkaProducerConfig {
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${reporting.kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${reporting.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${reporting.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${reporting.kafka.topics.partitions:6}")
+    private int partitions;
+
+    @Value("${reporting.kafka.topics.report-lifecycle}")
+    private String reportLifecycleTopic;
+
+    @Value("${reporting.kafka.topics.feedback-lifecycle}")
+    private String feedbackLifecycleTopic;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(props);
+        return new DefaultKafkaProducerFactory<>(
+                producerProperties(bootstrapServers, lingerMs, batchSize, compressionType));
     }
 
     @Bean
     public KafkaTemplate<String, String> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    @Bean
+    public NewTopic reportLifecycleTopic() {
+        return TopicBuilder.name(reportLifecycleTopic).partitions(partitions).build();
+    }
+
+    @Bean
+    public NewTopic feedbackLifecycleTopic() {
+        return TopicBuilder.name(feedbackLifecycleTopic).partitions(partitions).build();
+    }
+
+    /**
+     * Idempotent producer settings: acks=all with up to 5 in-flight requests keeps per-key
+     * order without duplicates on retry, while linger and batch size let records for many
+     * keys share one compressed request. Public so the benchmarks build the same producer.
+     */
+    public static Map<String, Object> producerProperties(String bootstrapServers, int lingerMs,
+                                                         int batchSize, String compressionType) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return props;
+    }
 }
@@ -0,0 +1,92 @@
+package com.hoangnd.reportingservice.kafka.consumer;
+
+import com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest;
+import com.hoangnd.reportingservice.service.FeedbackService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists AI listing-check results. Each poll becomes one transaction, so throughput
+ * scales with the topic's partitions and reporting.kafka.consumer.concurrency.
+ * Feedback is keyed by its record's topic, partition and offset, so a redelivered poll
+ * never saves a result twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiFeedbackConsumer {
+    private final FeedbackService feedbackService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @KafkaListener(topics = "${reporting.kafka.topics.ai-feedback}",
+            containerFactory = "batchListenerContainerFactory")
+    public void onAiFeedback(List<ConsumerRecord<String, String>> records) {
+        // Insertion ordered: the n-th entry is records.get(n)
+        Map<String, CreateFeedbackRequest> requests = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                requests.put(sourceRecord(record), parse(record));
+            } catch (JacksonException | ConstraintViolationException e) {
+                // An invalid record can never succeed: save the ones before it, then the error
+                // handler commits those and sends this one to the dead-letter topic without retrying
+                log.warn("Invalid AI feedback at {}: {}", sourceRecord(record), e.getMessage());
+                save(requests);
+                throw new BatchListenerFailedException("Invalid AI feedback", e, i);
+            }
+        }
+        save(requests);
+    }
+
+    private void save(Map<String, CreateFeedbackRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        try {
+            feedbackService.createFeedbackBatch(requests);
+        } catch (DataIntegrityViolationException e) {
+            // One row the database rejects rolls back the whole poll; insert record by record so
+            // the error handler commits everything before the bad record and dead-letters only it
+            log.warn("AI feedback batch rejected by the database, retrying {} records one by one: {}",
+                    requests.size(), e.getMostSpecificCause().getMessage());
+            int index = 0;
+            for (Map.Entry<String, CreateFeedbackRequest> request : requests.entrySet()) {
+                try {
+                    feedbackService.createFeedbackBatch(Map.of(request.getKey(), request.getValue()));
+                } catch (DataIntegrityViolationException rejected) {
+                    throw new BatchListenerFailedException("AI feedback rejected by the database", rejected, index);
+                }
+                index++;
+            }
+        }
+    }
+
+    private CreateFeedbackRequest parse(ConsumerRecord<String, String> record) {
+        CreateFeedbackRequest request = objectMapper.readValue(record.value(), CreateFeedbackRequest.class);
+        Set<ConstraintViolation<CreateFeedbackRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private static String sourceRecord(ConsumerRecord<String, String> record) {
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
+}
@@ -0,0 +1,51 @@
+package com.hoangnd.reportingservice.kafka.event;
+
+import com.hoangnd.reportingservice.event.FeedbackChangedEvent;
+import com.hoangnd.reportingservice.model.enums.CheckType;
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of the feedback lifecycle topic, keyed by feedbackId.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackLifecycleEvent {
+    public static final int SCHEMA_VERSION = 1;
+
+    private int schemaVersion;
+    private UUID eventId;
+    private FeedbackChangedEvent.Type eventType;
+    private UUID feedbackId;
+    private UUID listingId;
+    private UUID sellerUserId;
+    private CheckType checkType;
+    private FeedbackStatus previousStatus;
+    private FeedbackStatus status;
+    private UUID reviewedByStaffId;
+    private LocalDateTime occurredAt;
+
+    public static FeedbackLifecycleEvent from(FeedbackChangedEvent event) {
+        return FeedbackLifecycleEvent.builder()
+                .schemaVersion(SCHEMA_VERSION)
+                .eventId(UUID.randomUUID())
+                .eventType(event.getType())
+                .feedbackId(event.getFeedbackId())
+                .listingId(event.getListingId())
+                .sellerUserId(event.getSellerUserId())
+                .checkType(event.getCheckType())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .reviewedByStaffId(event.getReviewedByStaffId())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
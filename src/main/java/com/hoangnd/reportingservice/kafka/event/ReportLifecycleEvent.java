@@ -0,0 +1,53 @@
+package com.hoangnd.reportingservice.kafka.event;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of the report lifecycle topic, keyed by reportId.
+ * Bump SCHEMA_VERSION on any change consumers cannot ignore; adding fields is compatible.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportLifecycleEvent {
+    public static final int SCHEMA_VERSION = 1;
+
+    private int schemaVersion;
+    private UUID eventId;
+    private ReportChangedEvent.Type eventType;
+    private UUID reportId;
+    private UUID reportedUserId;
+    private ReportType reportType;
+    private PriorityLevel priorityLevel;
+    private ReportStatus previousStatus;
+    private ReportStatus status;
+    private UUID assignedAdminId;
+    private LocalDateTime occurredAt;
+
+    public static ReportLifecycleEvent from(ReportChangedEvent event) {
+        return ReportLifecycleEvent.builder()
+                .schemaVersion(SCHEMA_VERSION)
+                .eventId(UUID.randomUUID())
+                .eventType(event.getType())
+                .reportId(event.getReportId())
+                .reportedUserId(event.getReportedUserId())
+                .reportType(event.getReportType())
+                .priorityLevel(event.getPriorityLevel())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .assignedAdminId(event.getAssignedAdminId())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -2,8 +2,11 @@ package com.hoangnd.reportingservice.kafka.producer;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class NotificationEventProducer {
@@ -14,4 +17,11 @@ public class NotificationEventProducer {
     public void send(String message) {
         kafkaTemplate.send(TOPIC, message);
     }
+
+    /**
+     * Send a pre-serialized payload; the key picks the partition, so records sharing a key stay ordered
+     */
+    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String payload) {
+        return kafkaTemplate.send(topic, key, payload);
+    }
 }
@@ -0,0 +1,58 @@
+package com.hoangnd.reportingservice.kafka.producer;
+
+import com.hoangnd.reportingservice.event.FeedbackChangedEvent;
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.kafka.event.FeedbackLifecycleEvent;
+import com.hoangnd.reportingservice.kafka.event.ReportLifecycleEvent;
+import com.hoangnd.reportingservice.model.entity.OutboxEvent;
+import com.hoangnd.reportingservice.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Turns report and feedback changes into outbox rows inside the mutating transaction:
+ * the event is stored if and only if the change commits, and no Kafka call happens
+ * on the request path. OutboxRelay publishes the rows.
+ */
+@Component
+public class OutboxEventWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final String reportLifecycleTopic;
+    private final String feedbackLifecycleTopic;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${reporting.kafka.topics.report-lifecycle}") String reportLifecycleTopic,
+                             @Value("${reporting.kafka.topics.feedback-lifecycle}") String feedbackLifecycleTopic) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.reportLifecycleTopic = reportLifecycleTopic;
+        this.feedbackLifecycleTopic = feedbackLifecycleTopic;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReportChanged(ReportChangedEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType("REPORT")
+                .aggregateId(event.getReportId())
+                .topic(reportLifecycleTopic)
+                .eventType(event.getType().name())
+                .payload(objectMapper.writeValueAsString(ReportLifecycleEvent.from(event)))
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType("FEEDBACK")
+                .aggregateId(event.getFeedbackId())
+                .topic(feedbackLifecycleTopic)
+                .eventType(event.getType().name())
+                .payload(objectMapper.writeValueAsString(FeedbackLifecycleEvent.from(event)))
+                .build());
+    }
+}
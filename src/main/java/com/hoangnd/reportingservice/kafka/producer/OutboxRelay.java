@@ -0,0 +1,139 @@
+package com.hoangnd.reportingservice.kafka.producer;
+
+import com.hoangnd.reportingservice.model.entity.OutboxEvent;
+import com.hoangnd.reportingservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes outbox rows to Kafka. Each worker owns a hash partition of aggregate ids and,
+ * per transaction, locks its slot, takes the oldest rows with FOR UPDATE SKIP LOCKED, sends
+ * them, waits for the acks and deletes them. A failed send rolls the batch back and it is
+ * retried on the next poll, so delivery is at-least-once and in order per aggregate;
+ * consumers dedupe on eventId. Throughput scales with reporting.outbox.relay.workers.
+ */
+@Component
+@ConditionalOnProperty(name = "reporting.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+    // Advisory lock keys are worker slots offset into a namespace of their own
+    private static final long LOCK_NAMESPACE = 0x6F7574626F780000L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationEventProducer producer;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration sendTimeout;
+    private final Counter published;
+    private final Counter failures;
+
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       NotificationEventProducer producer,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${reporting.outbox.relay.workers:2}") int workers,
+                       @Value("${reporting.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${reporting.outbox.relay.poll-interval:100ms}") Duration pollInterval,
+                       @Value("${reporting.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.producer = producer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.sendTimeout = sendTimeout;
+        this.published = Counter.builder("reporting.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("reporting.outbox.failures").register(meterRegistry);
+        Gauge.builder("reporting.outbox.pending", outboxEventRepository, OutboxEventRepository::countPending)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor = Executors.newScheduledThreadPool(workers,
+                Thread.ofPlatform().name("outbox-relay-", 0).daemon().factory());
+        for (int worker = 0; worker < workers; worker++) {
+            int slot = worker;
+            executor.scheduleWithFixedDelay(() -> drain(slot), 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        log.info("Outbox relay started with {} workers", workers);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Keep going while batches come back full, then wait for the next poll
+    private void drain(int worker) {
+        try {
+            while (relayBatch(worker) == batchSize && !Thread.currentThread().isInterrupted()) {
+                log.trace("Outbox worker {} relayed a full batch", worker);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox worker {} failed, batch will be retried: {}", worker, e.getMessage());
+        }
+    }
+
+    // Package-private so tests can relay one batch inside a transaction of their own
+    int relayBatch(int worker) {
+        Integer relayed = transactionTemplate.execute(status -> {
+            if (!outboxEventRepository.tryLockWorkerSlot(LOCK_NAMESPACE + worker)) {
+                return 0;
+            }
+            List<OutboxEvent> batch = outboxEventRepository.lockBatch(workers, worker, batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            CompletableFuture<?>[] acks = batch.stream()
+                    .map(event -> producer.send(event.getTopic(), event.getAggregateId().toString(), event.getPayload()))
+                    .toArray(CompletableFuture[]::new);
+            awaitAcks(acks);
+
+            outboxEventRepository.deleteByOutboxIdIn(batch.stream().map(OutboxEvent::getOutboxId).toList());
+            return batch.size();
+        });
+        int count = relayed != null ? relayed : 0;
+        published.increment(count);
+        return count;
+    }
+
+    private void awaitAcks(CompletableFuture<?>[] acks) {
+        try {
+            CompletableFuture.allOf(acks).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Kafka acks", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Kafka did not acknowledge the outbox batch", e);
+        }
+    }
+}
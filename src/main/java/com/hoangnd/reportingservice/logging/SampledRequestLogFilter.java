@@ -0,0 +1,62 @@
+package com.hoangnd.reportingservice.logging;
+
+import com.hoangnd.reportingservice.metrics.RequestStatementMetricsInterceptor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One logfmt line per request in place of per-call INFO logging in the services.
+ * Server errors and requests slower than the threshold are always logged; the rest
+ * are sampled at the configured rate so log volume does not grow with traffic.
+ */
+@Component
+@Slf4j
+public class SampledRequestLogFilter extends OncePerRequestFilter {
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public SampledRequestLogFilter(@Value("${reporting.logging.request.sample-rate:0.01}") double sampleRate,
+                                   @Value("${reporting.logging.request.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            int status = response.getStatus();
+            boolean slow = durationMs >= slowThresholdMs;
+            if (status >= 500 || slow || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                log.info("method={} uri={} status={} durationMs={} statements={} slow={}",
+                        request.getMethod(),
+                        pattern != null ? pattern : request.getRequestURI(),
+                        status,
+                        durationMs,
+                        request.getAttribute(RequestStatementMetricsInterceptor.STATEMENTS_ATTRIBUTE),
+                        slow);
+            }
+        }
+    }
+
+    // SSE and export streams are logged once, when the handler returns; not again when the stream ends
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hoangnd.reportingservice.mapper;
+
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.entity.Feedback;
+import com.hoangnd.reportingservice.model.entity.FeedbackItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * Compile-time generated mapping from feedback entities to response records.
+ * Unmapped response components fail the build instead of silently staying null.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface FeedbackMapper {
+    FeedbackMapper INSTANCE = Mappers.getMapper(FeedbackMapper.class);
+
+    FeedbackResponse toResponse(Feedback feedback);
+
+    FeedbackResponse.FeedbackItemResponse toResponse(FeedbackItem item);
+
+    List<FeedbackResponse.FeedbackItemResponse> toItemResponses(List<FeedbackItem> items);
+}
@@ -0,0 +1,25 @@
+package com.hoangnd.reportingservice.mapper;
+
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.entity.ReportEvidence;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * Compile-time generated mapping from report entities to response records.
+ * Unmapped response components fail the build instead of silently staying null.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ReportMapper {
+    ReportMapper INSTANCE = Mappers.getMapper(ReportMapper.class);
+
+    ReportResponse toResponse(Report report);
+
+    ReportResponse.EvidenceResponse toResponse(ReportEvidence evidence);
+
+    List<ReportResponse.EvidenceResponse> toEvidenceResponses(List<ReportEvidence> evidences);
+}
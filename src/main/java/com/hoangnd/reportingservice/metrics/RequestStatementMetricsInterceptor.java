@@ -0,0 +1,49 @@
+package com.hoangnd.reportingservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of statements each request sends to the database as
+ * reporting.db.statements, tagged like http.server.requests so a chatty endpoint
+ * (N+1, per-row writes) stands out next to its latency.
+ */
+@RequiredArgsConstructor
+public class RequestStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+    // Statement count of the finished request, for the request log
+    public static final String STATEMENTS_ATTRIBUTE = RequestStatementMetricsInterceptor.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = StatementCounter.stop();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("reporting.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    // Streaming responses (SSE, export) continue on another thread; stop counting on this one
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.stop();
+    }
+}
@@ -0,0 +1,77 @@
+package com.hoangnd.reportingservice.metrics;
+
+import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Times every public service method as reporting.service.invocations, tagged with the
+ * service, method, outcome and the report/feedback status involved: the status argument
+ * of status-filtered calls, otherwise the status of the returned report or feedback.
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+    private static final String NONE = "none";
+
+    // The advisor is created before the registry exists, so the registry is resolved on first use
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private volatile MeterRegistry meterRegistry;
+
+    public ServiceMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry();
+        Timer.Sample sample = Timer.start(registry);
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            Class<?> service = AopUtils.getTargetClass(invocation.getThis());
+            sample.stop(Timer.builder("reporting.service.invocations")
+                    .description("Service method execution time")
+                    .tag("service", service.getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("status", status(invocation.getArguments(), result))
+                    .tag("outcome", failure == null ? "SUCCESS" : "ERROR")
+                    .tag("exception", failure == null ? NONE : failure.getClass().getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getObject();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private static String status(Object[] arguments, Object result) {
+        for (Object argument : arguments) {
+            if (argument instanceof ReportStatus || argument instanceof FeedbackStatus) {
+                return ((Enum<?>) argument).name();
+            }
+        }
+        return switch (result) {
+            case ReportResponse report when report.status() != null -> report.status().name();
+            case FeedbackResponse feedback when feedback.feedbackStatus() != null -> feedback.feedbackStatus().name();
+            case null, default -> NONE;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.hoangnd.reportingservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, i.e. database
+ * round trips (a JDBC batch is prepared once). Registered through
+ * hibernate.session_factory.statement_inspector; Hibernate instantiates it, so the
+ * per-thread state is static. Statements issued through JdbcTemplate are not seen.
+ */
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on the current thread
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on the current thread and return the number of statements since start()
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.hoangnd.reportingservice.metrics.config;
+
+import com.hoangnd.reportingservice.metrics.RequestStatementMetricsInterceptor;
+import com.hoangnd.reportingservice.metrics.ServiceMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+    private static final String BASE_PACKAGE = "com.hoangnd.reportingservice.";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Time public methods of the application's @Service classes. Declared as an infrastructure
+     * advisor so it joins the proxy @Transactional already creates instead of adding another.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Service.class, true))
+                .intersection((Class<?> type) -> type.getName().startsWith(BASE_PACKAGE))
+                .intersection(new StaticMethodMatcher() {
+                    @Override
+                    public boolean matches(Method method, Class<?> targetClass) {
+                        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+                    }
+                });
+        return new DefaultPointcutAdvisor(pointcut, new ServiceMetricsInterceptor(meterRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestStatementMetricsInterceptor(meterRegistry));
+    }
+}
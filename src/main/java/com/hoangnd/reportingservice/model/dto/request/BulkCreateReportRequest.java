@@ -0,0 +1,24 @@
+package com.hoangnd.reportingservice.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.hoangnd.reportingservice.common.AppConstants.MAX_BULK_REPORTS;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateReportRequest {
+
+    // Items are validated one by one in the service so a bad item does not reject the batch
+    @NotEmpty(message = "At least one report is required")
+    @Size(max = MAX_BULK_REPORTS, message = "At most " + MAX_BULK_REPORTS + " reports per request")
+    private List<CreateReportRequest> reports;
+}
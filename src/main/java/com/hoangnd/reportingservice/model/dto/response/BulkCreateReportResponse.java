@@ -0,0 +1,31 @@
+package com.hoangnd.reportingservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateReportResponse {
+    private int received;
+    private int created;
+    private List<UUID> createdReportIds;
+    private List<ItemFailure> failures;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemFailure {
+        // Position of the item in the request
+        private int index;
+        private Map<String, String> errors;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hoangnd.reportingservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private int size;
+    private boolean hasNext;
+    // Pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+}
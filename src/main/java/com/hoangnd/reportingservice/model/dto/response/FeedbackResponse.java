@@ -1,47 +1,42 @@
 package com.hoangnd.reportingservice.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.hoangnd.reportingservice.model.enums.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class FeedbackResponse {
+public record FeedbackResponse(
+        UUID feedbackId,
+        UUID listingId,
+        UUID sellerUserId,
+        CheckType checkType,
+        FeedbackStatus feedbackStatus,
+        BigDecimal aiConfidenceScore,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID reviewedByStaffId,
+        boolean resubmission,
+        UUID previousFeedbackId,
+        List<FeedbackItemResponse> feedbackItems) {
 
-    private UUID feedbackId;
-    private UUID listingId;
-    private UUID sellerUserId;
-    private CheckType checkType;
-    private FeedbackStatus feedbackStatus;
-    private BigDecimal aiConfidenceScore;
-    private LocalDateTime createdAt;
-    private UUID reviewedByStaffId;
-    private boolean isResubmission;
-    private UUID previousFeedbackId;
-    private List<FeedbackItemResponse> feedbackItems;
+    // Last modification time, the basis of the ETag
+    @JsonIgnore
+    public LocalDateTime version() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
 
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class FeedbackItemResponse {
-        private UUID feedbackItemId;
-        private Category category;
-        private Severity severity;
-        private String targetAttribute;
-        private String errorMessage;
-        private String suggestion;
-        private DetectedBy detectedBy;
-        private boolean isFixed;
-        private LocalDateTime createdAt;
+    public record FeedbackItemResponse(
+            UUID feedbackItemId,
+            Category category,
+            Severity severity,
+            String targetAttribute,
+            String errorMessage,
+            String suggestion,
+            DetectedBy detectedBy,
+            boolean fixed,
+            LocalDateTime createdAt) {
     }
 }
@@ -1,51 +1,49 @@
 package com.hoangnd.reportingservice.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.hoangnd.reportingservice.model.enums.*;
-import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class ReportResponse {
-    private UUID reportId;
-    private UUID reporterUserId;
-    private UUID reportedUserId;
-    private ReportedEntityType reportedEntityType;
-    private Long reportedEntityId;
-    private ReportType reportType;
-    private PriorityLevel priorityLevel;
-    private ReportStatus status;
-    private String title;
-    private String description;
-    private UUID assignedAdminId;
-    private String resolutionNotes;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-    private LocalDateTime resolvedAt;
-    private BigDecimal aiSeverityScore;
-    private boolean aiVerified;
-    private List<EvidenceResponse> evidences;
+public record ReportResponse(
+        UUID reportId,
+        UUID reporterUserId,
+        UUID reportedUserId,
+        ReportedEntityType reportedEntityType,
+        Long reportedEntityId,
+        ReportType reportType,
+        PriorityLevel priorityLevel,
+        ReportStatus status,
+        String title,
+        String description,
+        UUID assignedAdminId,
+        String resolutionNotes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime resolvedAt,
+        BigDecimal aiSeverityScore,
+        boolean aiVerified,
+        List<EvidenceResponse> evidences) {
 
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class EvidenceResponse {
-        private UUID evidenceId;
-        private EvidenceType evidenceType;
-        private String fileUrl;
-        private Long fileSize;
-        private String mimeType;
-        private String description;
-        private String metadata;
-        private LocalDateTime uploadedAt;
-        private boolean isVerified;
-        private String verificationNotes;
+    // Last modification time, the basis of the ETag
+    @JsonIgnore
+    public LocalDateTime version() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+
+    public record EvidenceResponse(
+            UUID evidenceId,
+            EvidenceType evidenceType,
+            String fileUrl,
+            Long fileSize,
+            String mimeType,
+            String description,
+            String metadata,
+            LocalDateTime uploadedAt,
+            boolean verified,
+            String verificationNotes) {
     }
 }
@@ -0,0 +1,25 @@
+package com.hoangnd.reportingservice.model.dto.response;
+
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserReportSummaryResponse {
+    private UUID reportedUserId;
+    private long totalReports;
+    // Reports not yet resolved or rejected
+    private long openReports;
+    private long reportsLast7Days;
+    private long reportsLast30Days;
+    private Map<ReportType, Long> countsByType;
+    private Map<ReportStatus, Long> countsByStatus;
+    private LocalDateTime lastReportedAt;
+}
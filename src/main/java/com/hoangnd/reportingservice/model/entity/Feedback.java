@@ -45,6 +45,9 @@ public class Feedback {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Column(name = "reviewed_by_staff_id")
     private UUID reviewedByStaffId;
 
@@ -55,6 +58,10 @@ public class Feedback {
     @Column(name = "previous_feedback_id")
     private UUID previousFeedbackId;
 
+    // Kafka record (topic-partition@offset) an AI result was created from; null for REST-created feedback
+    @Column(name = "source_record", updatable = false)
+    private String sourceRecord;
+
     @Builder.Default
     @OneToMany(mappedBy = "feedback", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FeedbackItem> feedbackItems = new ArrayList<>();
@@ -71,6 +78,11 @@ public class Feedback {
         isResubmission = previousFeedbackId != null;
     }
 
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
     // Helper methods for managing bidirectional relationships
     public void addFeedbackItem(FeedbackItem item) {
         feedbackItems.add(item);
@@ -34,7 +34,7 @@ public class FeedbackAudit {
     private FeedbackActionType feedbackActionType;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "previous_state", nullable = false, length = 50)
+    @Column(name = "previous_state", length = 50)
     private FeedbackStatus previousState;
 
     @Enumerated(EnumType.STRING)
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "report_audits")
+@Table(name = "report_audit")
 @Getter
 @Setter
 @NoArgsConstructor
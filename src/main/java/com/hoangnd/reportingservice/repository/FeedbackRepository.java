@@ -2,18 +2,24 @@ package com.hoangnd.reportingservice.repository;
 
 import com.hoangnd.reportingservice.model.entity.Feedback;
 import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
+    // Keyset predicate and ordering on (created_at, feedback_id) shared by the page queries below
+    String AFTER_CURSOR = "AND (f.createdAt > :createdAt OR (f.createdAt = :createdAt AND f.feedbackId > :id)) ";
+    String CURSOR_ORDER = "ORDER BY f.createdAt ASC, f.feedbackId ASC";
+
     // Find by listing
     List<Feedback> findByListingId(UUID listingId);
 
@@ -58,10 +64,59 @@ public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
             "(SELECT MAX(f2.createdAt) FROM Feedback f2 WHERE f2.listingId = f.listingId)")
     List<Feedback> findLatestFeedbackPerListing();
 
+    // Current status only, without loading the entity
+    @Query("SELECT f.feedbackStatus FROM Feedback f WHERE f.feedbackId = :id")
+    Optional<FeedbackStatus> findStatusById(@Param("id") UUID id);
+
+    // Last modification time for ETags, without loading the entity
+    @Query("SELECT COALESCE(f.updatedAt, f.createdAt) FROM Feedback f WHERE f.feedbackId = :id")
+    Optional<LocalDateTime> findVersionById(@Param("id") UUID id);
+
+    // Source records of a consumed batch that are already saved, to skip them on redelivery
+    @Query("SELECT f.sourceRecord FROM Feedback f WHERE f.sourceRecord IN :sourceRecords")
+    List<String> findSourceRecordsIn(@Param("sourceRecords") Collection<String> sourceRecords);
+
+    // Statistics query: Count feedback by status
+    @Query("SELECT f.feedbackStatus, COUNT(f) FROM Feedback f GROUP BY f.feedbackStatus")
+    List<Object[]> countFeedbackByStatus();
+
     // Find with items (fetch join to avoid N+1)
     @Query("SELECT DISTINCT f FROM Feedback f LEFT JOIN FETCH f.feedbackItems WHERE f.feedbackId = :id")
     Optional<Feedback> findByIdWithItems(@Param("id") UUID id);
 
+    // Initialize items for a chunk of streamed feedback in one round trip
+    @Query("SELECT DISTINCT f FROM Feedback f LEFT JOIN FETCH f.feedbackItems WHERE f.feedbackId IN :ids")
+    List<Feedback> findWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Keyset page by listing
+    @Query("SELECT f FROM Feedback f WHERE f.listingId = :listingId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Feedback> findPageByListingId(@Param("listingId") UUID listingId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Pageable pageable);
+
+    // Keyset page by seller
+    @Query("SELECT f FROM Feedback f WHERE f.sellerUserId = :sellerUserId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Feedback> findPageBySellerUserId(@Param("sellerUserId") UUID sellerUserId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    // Keyset page by status
+    @Query("SELECT f FROM Feedback f WHERE f.feedbackStatus = :status " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Feedback> findPageByFeedbackStatus(@Param("status") FeedbackStatus status,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    // Keyset page of feedback with the status and no reviewer assigned
+    @Query("SELECT f FROM Feedback f WHERE f.feedbackStatus = :status AND f.reviewedByStaffId IS NULL " +
+            AFTER_CURSOR + CURSOR_ORDER)
+    List<Feedback> findPageUnreviewed(@Param("status") FeedbackStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") UUID id,
+                                      Pageable pageable);
+
     // Find with audits (fetch join)
     @Query("SELECT DISTINCT f FROM Feedback f LEFT JOIN FETCH f.feedbackAudits WHERE f.feedbackId = :id")
     Optional<Feedback> findByIdWithAudits(@Param("id") UUID id);
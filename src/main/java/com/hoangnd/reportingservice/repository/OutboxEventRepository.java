@@ -0,0 +1,34 @@
+package com.hoangnd.reportingservice.repository;
+
+import com.hoangnd.reportingservice.model.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // Transaction-scoped lock on one relay worker slot, so across instances only one relay drains it
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLockWorkerSlot(@Param("key") long key);
+
+    // Oldest rows of one worker's hash partition; an aggregate always hashes to the same worker
+    @Query(value = "SELECT * FROM outbox WHERE (hashtext(aggregate_id::text) & 2147483647) % :workers = :worker " +
+            "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockBatch(@Param("workers") int workers,
+                                @Param("worker") int worker,
+                                @Param("limit") int limit);
+
+    // Remove relayed rows
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.outboxId IN :ids")
+    int deleteByOutboxIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rows still waiting to be relayed
+    @Query(value = "SELECT count(*) FROM outbox", nativeQuery = true)
+    long countPending();
+}
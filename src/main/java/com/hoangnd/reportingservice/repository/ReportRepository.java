@@ -6,6 +6,7 @@ import com.hoangnd.reportingservice.model.enums.PriorityLevel;
 import com.hoangnd.reportingservice.model.enums.ReportStatus;
 import com.hoangnd.reportingservice.model.enums.ReportType;
 import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.projection.ReportClaimCandidate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,12 +15,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ReportRepository extends JpaRepository<Report, UUID> {
+public interface ReportRepository extends JpaRepository<Report, UUID>, ReportTransitionRepository {
+    // Keyset predicate and ordering on (created_at, report_id) shared by the page queries below
+    String AFTER_CURSOR = "AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.reportId > :id)) ";
+    String CURSOR_ORDER = "ORDER BY r.createdAt ASC, r.reportId ASC";
+
     // Find by reporter
     List<Report> findByReporterUserId(UUID reporterUserId);
 
@@ -97,6 +103,10 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
     @Query("SELECT DISTINCT r FROM Report r LEFT JOIN FETCH r.evidences WHERE r.reportId = :id")
     Optional<Report> findByIdWithEvidences(@Param("id") UUID id);
 
+    // Initialize evidences for a whole page of reports in one round trip
+    @Query("SELECT DISTINCT r FROM Report r LEFT JOIN FETCH r.evidences WHERE r.reportId IN :ids")
+    List<Report> findWithEvidencesByIdIn(@Param("ids") Collection<UUID> ids);
+
     // Find with audits
     @Query("SELECT DISTINCT r FROM Report r LEFT JOIN FETCH r.audits WHERE r.reportId = :id")
     Optional<Report> findByIdWithAudits(@Param("id") UUID id);
@@ -108,6 +118,30 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
             "WHERE r.reportId = :id")
     Optional<Report> findByIdWithAll(@Param("id") UUID id);
 
+    // Current status only, without loading the entity
+    @Query("SELECT r.status FROM Report r WHERE r.reportId = :id")
+    Optional<ReportStatus> findStatusById(@Param("id") UUID id);
+
+    // Last modification time for ETags, without loading the entity
+    @Query("SELECT COALESCE(r.updatedAt, r.createdAt) FROM Report r WHERE r.reportId = :id")
+    Optional<LocalDateTime> findVersionById(@Param("id") UUID id);
+
+    // Claimable reports of one priority, oldest first, to (re)build the in-memory claim queue
+    @Query("SELECT r.reportId AS reportId, r.priorityLevel AS priorityLevel, r.createdAt AS createdAt " +
+            "FROM Report r WHERE r.priorityLevel = :priority AND r.status = 'PENDING' " +
+            "AND r.assignedAdminId IS NULL ORDER BY r.createdAt ASC")
+    List<ReportClaimCandidate> findClaimCandidates(@Param("priority") PriorityLevel priority, Pageable pageable);
+
+    // Lock a queued report if it is still claimable; rows another claim holds are skipped, not waited on
+    @Query(value = "SELECT report_id FROM report WHERE report_id = :id AND status = 'PENDING' " +
+            "AND assigned_admin_id IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<UUID> lockClaimable(@Param("id") UUID id);
+
+    // Queue miss: lock the oldest claimable report of one priority straight from the table
+    @Query(value = "SELECT report_id FROM report WHERE priority_level = :priority AND status = 'PENDING' " +
+            "AND assigned_admin_id IS NULL ORDER BY created_at LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<UUID> lockNextClaimable(@Param("priority") String priority);
+
     // Statistics query: Count reports by status
     @Query("SELECT r.status, COUNT(r) FROM Report r GROUP BY r.status")
     List<Object[]> countReportsByStatus();
@@ -115,4 +149,55 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
     // Statistics query: Count reports by type
     @Query("SELECT r.reportType, COUNT(r) FROM Report r GROUP BY r.reportType")
     List<Object[]> countReportsByType();
+
+    // Keyset page by reporter
+    @Query("SELECT r FROM Report r WHERE r.reporterUserId = :reporterUserId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByReporterUserId(@Param("reporterUserId") UUID reporterUserId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    // Keyset page by reported user
+    @Query("SELECT r FROM Report r WHERE r.reportedUserId = :reportedUserId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByReportedUserId(@Param("reportedUserId") UUID reportedUserId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    // Keyset page by status
+    @Query("SELECT r FROM Report r WHERE r.status = :status " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByStatus(@Param("status") ReportStatus status,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") UUID id,
+                                  Pageable pageable);
+
+    // Keyset page by entity
+    @Query("SELECT r FROM Report r WHERE r.reportedEntityType = :entityType " +
+            "AND r.reportedEntityId = :entityId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByReportedEntity(@Param("entityType") ReportedEntityType entityType,
+                                          @Param("entityId") Long entityId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    // Keyset page by assigned admin
+    @Query("SELECT r FROM Report r WHERE r.assignedAdminId = :adminId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByAssignedAdminId(@Param("adminId") UUID adminId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") UUID id,
+                                           Pageable pageable);
+
+    // Keyset page of unassigned reports
+    @Query("SELECT r FROM Report r WHERE r.assignedAdminId IS NULL " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageByAssignedAdminIdIsNull(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    // Keyset page of reports needing attention (high priority, unassigned)
+    @Query("SELECT r FROM Report r WHERE r.priorityLevel IN ('HIGH', 'CRITICAL') " +
+            "AND r.status = 'PENDING' " +
+            "AND r.assignedAdminId IS NULL " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Report> findPageNeedingAttention(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.hoangnd.reportingservice.repository;
+
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.repository.projection.ReportTransition;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Compare-and-set report transitions, each a single UPDATE ... RETURNING with no entity loaded
+ * beforehand. Empty means no row changed: the report is gone or was changed concurrently.
+ */
+public interface ReportTransitionRepository {
+    // Assignment leaves the status alone, so it also guards on the assignee
+    Optional<ReportTransition> assignIfUnchanged(UUID id, UUID adminId, LocalDateTime now);
+
+    // resolvedAt is kept when already set
+    Optional<ReportTransition> updateStatusIfUnchanged(UUID id, ReportStatus newStatus,
+                                                       LocalDateTime resolvedAt, LocalDateTime now);
+
+    Optional<ReportTransition> resolveIfUnchanged(UUID id, String resolutionNotes, LocalDateTime now);
+}
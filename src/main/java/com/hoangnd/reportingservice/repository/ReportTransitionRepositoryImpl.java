@@ -0,0 +1,76 @@
+package com.hoangnd.reportingservice.repository;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.repository.projection.ReportTransition;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The guard compares the row against a subquery on the same row, read from the statement's
+ * snapshot. If a concurrent transaction updates the row first, Postgres re-checks the WHERE
+ * clause against the new row version but keeps the subquery's original values, so the changed
+ * row no longer matches. The returned row becomes the managed Report.
+ */
+@RequiredArgsConstructor
+class ReportTransitionRepositoryImpl implements ReportTransitionRepository {
+    private static final String GUARD = "FROM (SELECT status, assigned_admin_id FROM report WHERE report_id = :id) seen " +
+            "WHERE r.report_id = :id AND r.status = seen.status ";
+    private static final String RETURNING = "RETURNING r.*, seen.status AS previous_status";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<ReportTransition> assignIfUnchanged(UUID id, UUID adminId, LocalDateTime now) {
+        return apply("UPDATE report r SET assigned_admin_id = :adminId, updated_at = :now " + GUARD +
+                "AND r.assigned_admin_id IS NOT DISTINCT FROM seen.assigned_admin_id " + RETURNING, query -> query
+                .setParameter("id", id)
+                .setParameter("adminId", adminId, UUID.class)
+                .setParameter("now", now));
+    }
+
+    @Override
+    public Optional<ReportTransition> updateStatusIfUnchanged(UUID id, ReportStatus newStatus,
+                                                              LocalDateTime resolvedAt, LocalDateTime now) {
+        return apply("UPDATE report r SET status = :newStatus, updated_at = :now, " +
+                "resolved_at = COALESCE(r.resolved_at, :resolvedAt) " + GUARD + RETURNING, query -> query
+                .setParameter("id", id)
+                .setParameter("newStatus", newStatus.name())
+                .setParameter("resolvedAt", resolvedAt, LocalDateTime.class)
+                .setParameter("now", now));
+    }
+
+    @Override
+    public Optional<ReportTransition> resolveIfUnchanged(UUID id, String resolutionNotes, LocalDateTime now) {
+        return apply("UPDATE report r SET status = :resolved, resolved_at = :now, updated_at = :now, " +
+                "resolution_notes = :resolutionNotes " + GUARD + RETURNING, query -> query
+                .setParameter("id", id)
+                .setParameter("resolved", ReportStatus.RESOLVED.name())
+                .setParameter("resolutionNotes", resolutionNotes, String.class)
+                .setParameter("now", now));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<ReportTransition> apply(String sql, Consumer<NativeQuery<Object[]>> parameters) {
+        // A managed copy of the report would shadow the returned row, so start from an empty context
+        entityManager.flush();
+        entityManager.clear();
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addEntity("r", Report.class).addScalar("previous_status", String.class);
+        parameters.accept(query);
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new ReportTransition((Report) row[0], ReportStatus.valueOf((String) row[1])));
+    }
+}
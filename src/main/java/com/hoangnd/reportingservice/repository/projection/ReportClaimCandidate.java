@@ -0,0 +1,17 @@
+package com.hoangnd.reportingservice.repository.projection;
+
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns the claim queue orders by, read without loading Report entities
+ */
+public interface ReportClaimCandidate {
+    UUID getReportId();
+
+    PriorityLevel getPriorityLevel();
+
+    LocalDateTime getCreatedAt();
+}
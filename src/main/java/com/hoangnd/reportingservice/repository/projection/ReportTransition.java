@@ -0,0 +1,10 @@
+package com.hoangnd.reportingservice.repository.projection;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+
+/**
+ * Outcome of a guarded transition: the report as updated and the status it moved from
+ */
+public record ReportTransition(Report report, ReportStatus previousStatus) {
+}
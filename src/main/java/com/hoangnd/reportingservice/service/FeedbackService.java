@@ -1,7 +1,14 @@
 package com.hoangnd.reportingservice.service;
 
+import com.hoangnd.reportingservice.cache.TwoLevelCache;
+import com.hoangnd.reportingservice.common.AppConstants;
+import com.hoangnd.reportingservice.common.ETags;
+import com.hoangnd.reportingservice.common.KeysetCursor;
+import com.hoangnd.reportingservice.event.FeedbackChangedEvent;
 import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import com.hoangnd.reportingservice.mapper.FeedbackMapper;
 import com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest;
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
 import com.hoangnd.reportingservice.model.dto.response.FeedbackResponse;
 import com.hoangnd.reportingservice.model.entity.Feedback;
 import com.hoangnd.reportingservice.model.entity.FeedbackAudit;
@@ -9,122 +16,159 @@ import com.hoangnd.reportingservice.model.entity.FeedbackItem;
 import com.hoangnd.reportingservice.model.enums.FeedbackActionType;
 import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
 import com.hoangnd.reportingservice.repository.FeedbackRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FeedbackService {
     private final FeedbackRepository feedbackRepository;
+    private final StatisticsCache statisticsCache;
+    private final TwoLevelCache<FeedbackResponse> feedbackCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Create new feedback
      */
     @Transactional
     public FeedbackResponse createFeedback(CreateFeedbackRequest request) {
-        log.info("Creating feedback for listing: {}", request.getListingId());
+        log.debug("Creating feedback for listing: {}", request.getListingId());
 
-        // Build feedback entity
-        Feedback feedback = Feedback.builder()
-                .listingId(request.getListingId())
-                .sellerUserId(request.getSellerUserId())
-                .checkType(request.getCheckType())
-                .feedbackStatus(FeedbackStatus.PENDING)
-                .aiConfidenceScore(request.getAiConfidenceScore())
-                .previousFeedbackId(request.getPreviousFeedbackId())
-                .build();
-
-        // Add feedback items
-        if (request.getFeedbackItems() != null) {
-            request.getFeedbackItems().forEach(itemRequest -> {
-                FeedbackItem item = FeedbackItem.builder()
-                        .category(itemRequest.getCategory())
-                        .severity(itemRequest.getSeverity())
-                        .targetAttribute(itemRequest.getTargetAttribute())
-                        .errorMessage(itemRequest.getErrorMessage())
-                        .suggestion(itemRequest.getSuggestion())
-                        .detectedBy(itemRequest.getDetectedBy())
-                        .build();
-                feedback.addFeedbackItem(item);
-            });
-        }
-
-        // Create audit log for creation
-        FeedbackAudit audit = FeedbackAudit.builder()
-                .feedbackActionType(FeedbackActionType.CREATED)
-                .previousState(null)
-                .newState(FeedbackStatus.PENDING)
-                .notes("Feedback created")
-                .isAutomated(true)
-                .build();
-        feedback.addFeedbackAudit(audit);
+        Feedback feedback = buildFeedback(request);
 
         // Save feedback
         Feedback savedFeedback = feedbackRepository.save(feedback);
-        log.info("Feedback created with ID: {}", savedFeedback.getFeedbackId());
+        statisticsCache.feedbackCreated(savedFeedback.getFeedbackStatus());
+        eventPublisher.publishEvent(FeedbackChangedEvent.of(FeedbackChangedEvent.Type.CREATED, savedFeedback, null));
+        log.debug("Feedback created with ID: {}", savedFeedback.getFeedbackId());
 
         return mapToResponse(savedFeedback);
     }
 
     /**
-     * Get feedback by ID
+     * Create a batch of AI feedback (one Kafka poll of check results) in a single transaction,
+     * keyed by the Kafka record each request came from. Records already saved by an earlier
+     * delivery of the poll are skipped; the rest are inserted with JDBC batching in fixed-size
+     * chunks. Requests must already be validated. Returns the number of feedback rows created.
+     */
+    @Transactional
+    public int createFeedbackBatch(Map<String, CreateFeedbackRequest> requestsBySourceRecord) {
+        log.debug("Creating batch of {} feedback", requestsBySourceRecord.size());
+
+        Set<String> saved = new HashSet<>(feedbackRepository.findSourceRecordsIn(requestsBySourceRecord.keySet()));
+        List<Feedback> chunk = new ArrayList<>(AppConstants.BULK_FLUSH_SIZE);
+        int created = 0;
+        for (Map.Entry<String, CreateFeedbackRequest> entry : requestsBySourceRecord.entrySet()) {
+            if (saved.contains(entry.getKey())) {
+                continue;
+            }
+
+            Feedback feedback = buildFeedback(entry.getValue());
+            feedback.setSourceRecord(entry.getKey());
+            chunk.add(feedback);
+            if (chunk.size() == AppConstants.BULK_FLUSH_SIZE) {
+                created += flushChunk(chunk);
+            }
+        }
+        created += flushChunk(chunk);
+
+        statisticsCache.feedbacksCreated(FeedbackStatus.PENDING, created);
+        log.debug("Created {} of {} feedback from batch, {} already saved", created, requestsBySourceRecord.size(), saved.size());
+        return created;
+    }
+
+    /**
+     * Get feedback by ID (read-through cache, no transaction so a hit never touches the pool)
      */
-    @Transactional(readOnly = true)
     public FeedbackResponse getFeedbackById(UUID feedbackId) throws ResourceNotFoundException {
-        log.info("Retrieving feedback with ID: {}", feedbackId);
+        log.debug("Retrieving feedback with ID: {}", feedbackId);
+
+        FeedbackResponse cached = feedbackCache.get(feedbackId);
+        if (cached != null) {
+            return cached;
+        }
 
         Feedback feedback = feedbackRepository.findByIdWithItems(feedbackId)
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with ID: " + feedbackId));
 
-        return mapToResponse(feedback);
+        FeedbackResponse response = mapToResponse(feedback);
+        feedbackCache.put(feedbackId, response);
+        return response;
     }
 
     /**
-     * Get all feedback for a listing
+     * ETag of a feedback's current version, always from the database so a stale cached copy
+     * can never answer 304 for a newer row
      */
-    @Transactional(readOnly = true)
-    public List<FeedbackResponse> getFeedbackByListing(UUID listingId) {
-        log.info("Retrieving feedbacks by listing: {}", listingId);
+    public String getFeedbackETag(UUID feedbackId) throws ResourceNotFoundException {
+        return ETags.of(feedbackRepository.findVersionById(feedbackId)
+                .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with ID: " + feedbackId)));
+    }
 
-        List<Feedback> feedbacks = feedbackRepository.findByListingId(listingId);
-        return feedbacks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Write all feedback for a listing to the output as a JSON array
+     */
+    public long writeFeedbackByListing(UUID listingId, OutputStream out) {
+        log.debug("Streaming feedbacks by listing: {}", listingId);
+
+        return writeJsonArray((createdAt, id, pageable) ->
+                feedbackRepository.findPageByListingId(listingId, createdAt, id, pageable), out);
     }
 
-    // Get all feedback for a seller
-    @Transactional(readOnly = true)
-    public List<FeedbackResponse> getFeedbackBySeller(UUID sellerUserId) {
-        log.info("Retrieving feedbacks by seller: {}", sellerUserId);
+    // Write all feedback for a seller to the output as a JSON array
+    public long writeFeedbackBySeller(UUID sellerUserId, OutputStream out) {
+        log.debug("Streaming feedbacks by seller: {}", sellerUserId);
 
-        List<Feedback> feedbacks = feedbackRepository.findBySellerUserId(sellerUserId);
-        return feedbacks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return writeJsonArray((createdAt, id, pageable) ->
+                feedbackRepository.findPageBySellerUserId(sellerUserId, createdAt, id, pageable), out);
     }
 
-    // Get feedback by status
+    /**
+     * Get a page of feedback by status
+     */
     @Transactional(readOnly = true)
-    public List<FeedbackResponse> getFeedbackByStatus(FeedbackStatus status) {
-        log.info("Retrieving feedbacks by status: {}", status);
+    public CursorPageResponse<FeedbackResponse> getFeedbackByStatus(FeedbackStatus status, String cursor, int size) {
+        log.debug("Retrieving feedbacks by status: {}", status);
 
-        List<Feedback> feedbacks = feedbackRepository.findByFeedbackStatus(status);
-        return feedbacks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return page((createdAt, id, pageable) ->
+                        feedbackRepository.findPageByFeedbackStatus(status, createdAt, id, pageable),
+                KeysetCursor.decode(cursor), Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE)));
+    }
+
+    // Write feedback by status to the output as a JSON array
+    public long writeFeedbackByStatus(FeedbackStatus status, OutputStream out) {
+        log.debug("Streaming feedbacks by status: {}", status);
+
+        return writeJsonArray((createdAt, id, pageable) ->
+                feedbackRepository.findPageByFeedbackStatus(status, createdAt, id, pageable), out);
     }
 
     // Update feedback status
-    @Transactional(readOnly = true)
+    @Transactional
     public FeedbackResponse updateFeedbackStatus(UUID feedbackId, FeedbackStatus newStatus, UUID staffId, String notes) throws ResourceNotFoundException {
-        log.info("Updating feedback {} to status: {}", feedbackId, newStatus);
+        log.debug("Updating feedback {} to status: {}", feedbackId, newStatus);
 
         Feedback feedback = feedbackRepository.findById(feedbackId)
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with ID: " + feedbackId));
@@ -149,7 +193,10 @@ public class FeedbackService {
         feedback.addFeedbackAudit(audit);
 
         Feedback updatedFeedback = feedbackRepository.save(feedback);
-        log.info("Feedback {} status updated from {} to {}", feedbackId, previousStatus, newStatus);
+        statisticsCache.feedbackStatusChanged(previousStatus, newStatus);
+        feedbackCache.evictAfterCommit(feedbackId);
+        eventPublisher.publishEvent(FeedbackChangedEvent.of(FeedbackChangedEvent.Type.STATUS_CHANGED, updatedFeedback, previousStatus));
+        log.debug("Feedback {} status updated from {} to {}", feedbackId, previousStatus, newStatus);
 
         return mapToResponse(updatedFeedback);
     }
@@ -169,7 +216,7 @@ public class FeedbackService {
     //Mark feedback item as fixed
     @Transactional
     public FeedbackResponse markItemAsFixed(UUID feedbackId, UUID itemId) throws ResourceNotFoundException {
-        log.info("Marking item as fixed: {}", itemId);
+        log.debug("Marking item as fixed: {}", itemId);
 
         Feedback feedback = feedbackRepository.findByIdWithItems(feedbackId)
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with ID: " + feedbackId));
@@ -180,6 +227,9 @@ public class FeedbackService {
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found with ID: " + itemId));
 
         item.setFixed(true);
+        // Item changes do not dirty the feedback row, so bump its version for the ETag
+        feedback.setUpdatedAt(LocalDateTime.now());
+        FeedbackStatus previousStatus = feedback.getFeedbackStatus();
 
         boolean allFixed = feedback.getFeedbackItems().stream()
                 .allMatch(FeedbackItem::isFixed);
@@ -196,10 +246,13 @@ public class FeedbackService {
                     .isAutomated(true)
                     .build();
             feedback.addFeedbackAudit(audit);
+            statisticsCache.feedbackStatusChanged(FeedbackStatus.PENDING, FeedbackStatus.RESOLVED);
         }
 
         Feedback updatedFeedback = feedbackRepository.save(feedback);
-        log.info("Feedback item {} marked as fixed", itemId);
+        feedbackCache.evictAfterCommit(feedbackId);
+        eventPublisher.publishEvent(FeedbackChangedEvent.of(FeedbackChangedEvent.Type.ITEM_FIXED, updatedFeedback, previousStatus));
+        log.debug("Feedback item {} marked as fixed", itemId);
 
         return mapToResponse(updatedFeedback);
     }
@@ -209,77 +262,168 @@ public class FeedbackService {
      */
     @Transactional
     public void deleteFeedback(UUID feedbackId) throws ResourceNotFoundException {
-        log.info("Deleting feedback with ID: {}", feedbackId);
+        log.debug("Deleting feedback with ID: {}", feedbackId);
 
-        if (!feedbackRepository.existsById(feedbackId)) {
-            throw new ResourceNotFoundException("Feedback not found with ID: " + feedbackId);
-        }
+        FeedbackStatus status = feedbackRepository.findStatusById(feedbackId)
+                .orElseThrow(() -> new ResourceNotFoundException("Feedback not found with ID: " + feedbackId));
 
         feedbackRepository.deleteById(feedbackId);
-        log.info("Feedback {} deleted successfully", feedbackId);
+        statisticsCache.feedbackDeleted(status);
+        feedbackCache.evictAfterCommit(feedbackId);
+        eventPublisher.publishEvent(FeedbackChangedEvent.deleted(feedbackId, status));
+        log.debug("Feedback {} deleted successfully", feedbackId);
     }
 
     /**
-     * Get pending feedback requiring review
+     * Write pending feedback requiring review to the output as a JSON array
      */
-    @Transactional(readOnly = true)
-    public List<FeedbackResponse> getPendingReviews() {
-        log.info("Retrieving pending feedback reviews");
+    public long writePendingReviews(OutputStream out) {
+        log.debug("Streaming pending feedback reviews");
 
-        List<Feedback> feedbacks = feedbackRepository.findByFeedbackStatusAndReviewedByStaffIdIsNull(FeedbackStatus.PENDING);
-        return feedbacks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return writeJsonArray((createdAt, id, pageable) ->
+                feedbackRepository.findPageUnreviewed(FeedbackStatus.PENDING, createdAt, id, pageable), out);
     }
 
     /**
-     * Get feedback statistics
+     * Get feedback statistics, served from the in-memory counters
      */
-    @Transactional(readOnly = true)
     public FeedbackStatistics getStatistics() {
-        log.info("Retrieving feedback statistics");
+        log.debug("Retrieving feedback statistics");
 
+        StatusCounters<FeedbackStatus> counters = statisticsCache.feedbackCounters();
         return FeedbackStatistics.builder()
-                .totalFeedback(feedbackRepository.count())
-                .pendingCount(feedbackRepository.countByFeedbackStatus(FeedbackStatus.PENDING))
-                .approvedCount(feedbackRepository.countByFeedbackStatus(FeedbackStatus.APPROVED))
-                .rejectedCount(feedbackRepository.countByFeedbackStatus(FeedbackStatus.REJECTED))
-                .resolvedCount(feedbackRepository.countByFeedbackStatus(FeedbackStatus.RESOLVED))
+                .totalFeedback(counters.total())
+                .pendingCount(counters.get(FeedbackStatus.PENDING))
+                .approvedCount(counters.get(FeedbackStatus.APPROVED))
+                .approvedWithNotesCount(counters.get(FeedbackStatus.APPROVED_WITH_NOTES))
+                .needsRevisionCount(counters.get(FeedbackStatus.NEEDS_REVISION))
+                .resubmittedCount(counters.get(FeedbackStatus.RESUBMITTED))
+                .rejectedCount(counters.get(FeedbackStatus.REJECTED))
+                .resolvedCount(counters.get(FeedbackStatus.RESOLVED))
                 .build();
     }
 
-    // Mapper method
-    private FeedbackResponse mapToResponse(Feedback feedback) {
-        List<FeedbackResponse.FeedbackItemResponse> items = null;
-
-        if (feedback.getFeedbackItems() != null) {
-            items = feedback.getFeedbackItems().stream()
-                    .map(item -> FeedbackResponse.FeedbackItemResponse.builder()
-                            .feedbackItemId(item.getFeedbackItemId())
-                            .category(item.getCategory())
-                            .severity(item.getSeverity())
-                            .targetAttribute(item.getTargetAttribute())
-                            .errorMessage(item.getErrorMessage())
-                            .suggestion(item.getSuggestion())
-                            .detectedBy(item.getDetectedBy())
-                            .isFixed(item.isFixed())
-                            .createdAt(item.getCreatedAt())
-                            .build())
-                    .collect(Collectors.toList());
+    // One batched INSERT per table for the chunk, then detach it to keep memory flat
+    private int flushChunk(List<Feedback> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
-        return FeedbackResponse.builder()
-                .feedbackId(feedback.getFeedbackId())
-                .listingId(feedback.getListingId())
-                .sellerUserId(feedback.getSellerUserId())
-                .checkType(feedback.getCheckType())
-                .feedbackStatus(feedback.getFeedbackStatus())
-                .aiConfidenceScore(feedback.getAiConfidenceScore())
-                .createdAt(feedback.getCreatedAt())
-                .reviewedByStaffId(feedback.getReviewedByStaffId())
-                .isResubmission(feedback.isResubmission())
-                .previousFeedbackId(feedback.getPreviousFeedbackId())
-                .feedbackItems(items)
+        feedbackRepository.saveAll(chunk);
+        // Flushed through the repository so constraint failures surface as DataIntegrityViolationException
+        feedbackRepository.flush();
+        chunk.forEach(feedback -> eventPublisher.publishEvent(
+                FeedbackChangedEvent.of(FeedbackChangedEvent.Type.CREATED, feedback, null)));
+        entityManager.clear();
+        int flushed = chunk.size();
+        chunk.clear();
+        return flushed;
+    }
+
+    // Builds a new PENDING feedback with its items and creation audit
+    private static Feedback buildFeedback(CreateFeedbackRequest request) {
+        // Build feedback entity
+        Feedback feedback = Feedback.builder()
+                .listingId(request.getListingId())
+                .sellerUserId(request.getSellerUserId())
+                .checkType(request.getCheckType())
+                .feedbackStatus(FeedbackStatus.PENDING)
+                .aiConfidenceScore(request.getAiConfidenceScore())
+                .previousFeedbackId(request.getPreviousFeedbackId())
                 .build();
+
+        // Add feedback items
+        if (request.getFeedbackItems() != null) {
+            request.getFeedbackItems().forEach(itemRequest -> {
+                FeedbackItem item = FeedbackItem.builder()
+                        .category(itemRequest.getCategory())
+                        .severity(itemRequest.getSeverity())
+                        .targetAttribute(itemRequest.getTargetAttribute())
+                        .errorMessage(itemRequest.getErrorMessage())
+                        .suggestion(itemRequest.getSuggestion())
+                        .detectedBy(itemRequest.getDetectedBy())
+                        .build();
+                feedback.addFeedbackItem(item);
+            });
+        }
+
+        // Create audit log for creation
+        FeedbackAudit audit = FeedbackAudit.builder()
+                .feedbackActionType(FeedbackActionType.CREATED)
+                .previousState(null)
+                .newState(FeedbackStatus.PENDING)
+                .notes("Feedback created")
+                .isAutomated(true)
+                .build();
+        feedback.addFeedbackAudit(audit);
+
+        return feedback;
+    }
+
+    // Writes keyset pages of STREAM_CHUNK_SIZE rows. Each page is read and mapped in its own
+    // short transaction and written after it commits, so a slow client never holds a connection
+    private long writeJsonArray(PageQuery query, OutputStream out) {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            KeysetCursor after = KeysetCursor.decode(null);
+            CursorPageResponse<FeedbackResponse> page;
+            do {
+                KeysetCursor from = after;
+                page = transactionTemplate.execute(status -> page(query, from, AppConstants.STREAM_CHUNK_SIZE));
+                for (FeedbackResponse feedback : page.getItems()) {
+                    objectMapper.writeValue(generator, feedback);
+                }
+                generator.flush();
+                written += page.getSize();
+                if (page.isHasNext()) {
+                    after = KeysetCursor.decode(page.getNextCursor());
+                }
+            } while (page.isHasNext());
+            generator.writeEndArray();
+        }
+        return written;
+    }
+
+    // Page queries fetch one extra row to learn whether another page exists
+    private CursorPageResponse<FeedbackResponse> page(PageQuery query, KeysetCursor after, int pageSize) {
+        List<Feedback> feedbacks = query.find(after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = feedbacks.size() > pageSize;
+        List<Feedback> page = hasNext ? feedbacks.subList(0, pageSize) : feedbacks;
+
+        // One fetch join initializes the items of every managed row on the page
+        if (!page.isEmpty()) {
+            feedbackRepository.findWithItemsByIdIn(page.stream()
+                    .map(Feedback::getFeedbackId)
+                    .toList());
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Feedback last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getFeedbackId()).encode();
+        }
+
+        List<FeedbackResponse> items = page.stream()
+                .map(this::mapToResponse)
+                .toList();
+        entityManager.clear();
+        return CursorPageResponse.<FeedbackResponse>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Keyset page query on (created_at, feedback_id) behind one streamed list
+    @FunctionalInterface
+    private interface PageQuery {
+        List<Feedback> find(LocalDateTime createdAt, UUID id, Pageable pageable);
+    }
+
+    // Mapper method
+    private FeedbackResponse mapToResponse(Feedback feedback) {
+        return FeedbackMapper.INSTANCE.toResponse(feedback);
     }
 
     // Statistics DTO
@@ -289,6 +433,9 @@ public class FeedbackService {
         private long totalFeedback;
         private long pendingCount;
         private long approvedCount;
+        private long approvedWithNotesCount;
+        private long needsRevisionCount;
+        private long resubmittedCount;
         private long rejectedCount;
         private long resolvedCount;
     }
@@ -0,0 +1,66 @@
+package com.hoangnd.reportingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves report audits from the report_audit_log staging table into report_audit, batching
+ * the audits of many requests into one statement. Each statement deletes the oldest staged
+ * rows with FOR UPDATE SKIP LOCKED and inserts them, so instances drain side by side and a
+ * row is either moved or still staged, never lost or copied twice. Audits of reports deleted
+ * in the meantime are discarded, the cascade would have removed them anyway.
+ */
+@Component
+@Slf4j
+public class ReportAuditDrainer {
+    private static final String MOVE_SQL = """
+            WITH moved AS (
+                DELETE FROM report_audit_log
+                WHERE audit_log_id IN (SELECT audit_log_id FROM report_audit_log
+                                       ORDER BY audit_log_id
+                                       LIMIT ?
+                                       FOR UPDATE SKIP LOCKED)
+                RETURNING report_audit_id, report_id, admin_user_id, action_type, previous_state,
+                          new_state, notes, is_automated, created_at)
+            INSERT INTO report_audit (report_audit_id, report_id, admin_user_id, action_type, previous_state,
+                                      new_state, notes, is_automated, created_at)
+            SELECT m.report_audit_id, m.report_id, m.admin_user_id, m.action_type, m.previous_state,
+                   m.new_state, m.notes, m.is_automated, m.created_at
+            FROM moved m
+            WHERE EXISTS (SELECT 1 FROM report r WHERE r.report_id = m.report_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Counter drained;
+
+    public ReportAuditDrainer(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${reporting.audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.drained = Counter.builder("reporting.audit.drained").register(meterRegistry);
+    }
+
+    /**
+     * Move staged audits in batches until fewer than a full batch are left. A failed batch
+     * (e.g. a report deleted between the check and the insert) stays staged for the next run.
+     */
+    @Scheduled(fixedDelayString = "${reporting.audit.drain-interval-ms:200}")
+    public void drain() {
+        try {
+            int moved;
+            do {
+                moved = jdbcTemplate.update(MOVE_SQL, batchSize);
+                drained.increment(moved);
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to drain report audits, retrying on the next run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.entity.ReportAudit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only writer for report audit rows. Audits recorded during a transaction are
+ * appended to the report_audit_log staging table with one JDBC batch just before it commits,
+ * so an audit commits or rolls back together with the change it describes while the request
+ * pays only for an unindexed append. ReportAuditDrainer moves them into report_audit.
+ */
+@Component
+@Slf4j
+public class ReportAuditWriter {
+    private static final String INSERT_SQL = "INSERT INTO report_audit_log " +
+            "(report_audit_id, report_id, admin_user_id, action_type, previous_state, new_state, " +
+            "notes, is_automated, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ReportAuditWriter(JdbcTemplate jdbcTemplate,
+                             @Value("${reporting.audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Record an audit for a report; it is inserted when the current transaction commits
+     */
+    public void append(UUID reportId, ReportAudit audit) {
+        PendingAudit pending = new PendingAudit(
+                UUID.randomUUID(),
+                reportId,
+                audit.getAdminUserId(),
+                audit.getActionType().name(),
+                audit.getPreviousState() != null ? audit.getPreviousState().name() : null,
+                audit.getNewState() != null ? audit.getNewState().name() : null,
+                audit.getNotes(),
+                audit.isAutomated(),
+                audit.getCreatedAt() != null ? audit.getCreatedAt() : LocalDateTime.now());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(pending));
+            return;
+        }
+        pendingAudits().add(pending);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingAudit> pendingAudits() {
+        List<PendingAudit> audits = (List<PendingAudit>) TransactionSynchronizationManager.getResource(this);
+        if (audits == null) {
+            List<PendingAudit> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReportAuditWriter.this);
+                }
+            });
+            audits = created;
+        }
+        return audits;
+    }
+
+    // Any failure propagates and rolls the transaction back, so no audit is ever dropped
+    private void write(List<PendingAudit> audits) {
+        if (audits.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, audits, batchSize, this::bind);
+        log.debug("Appended {} report audits", audits.size());
+    }
+
+    private void bind(PreparedStatement ps, PendingAudit audit) throws SQLException {
+        ps.setObject(1, audit.id());
+        ps.setObject(2, audit.reportId());
+        ps.setObject(3, audit.adminUserId());
+        ps.setString(4, audit.actionType());
+        ps.setString(5, audit.previousState());
+        ps.setString(6, audit.newState());
+        ps.setString(7, audit.notes());
+        ps.setBoolean(8, audit.automated());
+        ps.setTimestamp(9, Timestamp.valueOf(audit.createdAt()));
+    }
+
+    private record PendingAudit(UUID id,
+                                UUID reportId,
+                                UUID adminUserId,
+                                String actionType,
+                                String previousState,
+                                String newState,
+                                String notes,
+                                boolean automated,
+                                LocalDateTime createdAt) {
+    }
+}
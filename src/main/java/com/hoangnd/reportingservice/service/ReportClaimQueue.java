@@ -0,0 +1,133 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import com.hoangnd.reportingservice.repository.projection.ReportClaimCandidate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Claimable (PENDING, unassigned) reports ordered by priority, then age. Hands out each
+ * report to one caller on this instance; the database lock taken by the claim keeps
+ * instances from handing out the same report.
+ * Reports that stop being claimable are dropped from the id set right away and their queue
+ * entries are skipped when they reach the head or at the next refresh.
+ */
+@Component
+@Slf4j
+public class ReportClaimQueue {
+    private static final Comparator<Entry> CLAIM_ORDER = Comparator
+            .comparing(Entry::priorityLevel)
+            .thenComparing(Entry::createdAt)
+            .thenComparing(Entry::reportId);
+
+    private final ReportRepository reportRepository;
+    private final int capacity;
+
+    private final PriorityBlockingQueue<Entry> queue = new PriorityBlockingQueue<>(1024, CLAIM_ORDER);
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    public ReportClaimQueue(ReportRepository reportRepository,
+                            @Value("${reporting.claim.queue-capacity:100000}") int capacity) {
+        this.reportRepository = reportRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Load claimable reports from the database, highest priority first, up to the capacity
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${reporting.claim.refresh-interval-ms:60000}",
+            fixedDelayString = "${reporting.claim.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            queue.removeIf(entry -> !queued.contains(entry.reportId()));
+            for (PriorityLevel priority : PriorityLevel.values()) {
+                int room = capacity - queued.size();
+                if (room <= 0) {
+                    break;
+                }
+                for (ReportClaimCandidate candidate : reportRepository.findClaimCandidates(priority, PageRequest.of(0, room))) {
+                    offer(new Entry(candidate.getReportId(), candidate.getPriorityLevel(), candidate.getCreatedAt()));
+                }
+            }
+            log.debug("Claim queue refreshed with {} reports", queued.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh claim queue: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Next queued report id, or null when the queue is empty. If the surrounding
+     * transaction rolls back the report goes back into the queue.
+     */
+    public UUID poll() {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            if (queued.remove(entry.reportId())) {
+                requeueOnRollback(entry);
+                return entry.reportId();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return queued.size();
+    }
+
+    /**
+     * Track committed changes: new claimable reports join the queue, everything else leaves it
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportChanged(ReportChangedEvent event) {
+        boolean claimable = event.getStatus() == ReportStatus.PENDING && event.getAssignedAdminId() == null;
+        if (claimable && event.getCreatedAt() != null) {
+            offer(new Entry(event.getReportId(), event.getPriorityLevel(), event.getCreatedAt()));
+        } else if (!claimable) {
+            queued.remove(event.getReportId());
+        }
+    }
+
+    private void offer(Entry entry) {
+        // Once full, newer reports wait for a refresh after the backlog drains
+        if (queued.size() < capacity && queued.add(entry.reportId())) {
+            queue.offer(entry);
+        }
+    }
+
+    private void requeueOnRollback(Entry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    offer(entry);
+                }
+            }
+        });
+    }
+
+    private record Entry(UUID reportId, PriorityLevel priorityLevel, LocalDateTime createdAt) {
+    }
+}
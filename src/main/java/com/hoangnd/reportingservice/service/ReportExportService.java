@@ -0,0 +1,286 @@
+package com.hoangnd.reportingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compliance export of reports with their audit trail. Rows are read through a
+ * server-side cursor (fetch size inside a read-only transaction) and written to the
+ * output as they arrive, so memory use does not depend on the size of the export.
+ */
+@Service
+@Slf4j
+public class ReportExportService {
+    private static final String REPORT_COLUMNS =
+            "r.report_id, r.reporter_user_id, r.reported_user_id, r.reported_entity_type, r.reported_entity_id, " +
+            "r.report_type, r.priority_level, r.status, r.title, r.description, r.assigned_admin_id, " +
+            "r.resolution_notes, r.created_at, r.updated_at, r.resolved_at, r.ai_severity_score, r.ai_verified";
+    private static final String AUDIT_COLUMNS =
+            "a.report_audit_id AS audit_id, a.admin_user_id AS audit_admin_user_id, a.action_type AS audit_action_type, " +
+            "a.previous_state AS audit_previous_state, a.new_state AS audit_new_state, a.notes AS audit_notes, " +
+            "a.is_automated AS audit_is_automated, a.created_at AS audit_created_at";
+
+    // Report columns in output order, followed by the audit columns (CSV header and NDJSON field names)
+    private static final List<String> REPORT_FIELDS = List.of(
+            "report_id", "reporter_user_id", "reported_user_id", "reported_entity_type", "reported_entity_id",
+            "report_type", "priority_level", "status", "title", "description", "assigned_admin_id",
+            "resolution_notes", "created_at", "updated_at", "resolved_at", "ai_severity_score", "ai_verified");
+    private static final List<String> AUDIT_FIELDS = List.of(
+            "audit_id", "audit_admin_user_id", "audit_action_type", "audit_previous_state", "audit_new_state",
+            "audit_notes", "audit_is_automated", "audit_created_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ReportExportService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${reporting.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    public enum DateField {
+        CREATED_AT("created_at"),
+        RESOLVED_AT("resolved_at");
+
+        private final String column;
+
+        DateField(String column) {
+            this.column = column;
+        }
+
+        public static DateField from(String value) {
+            return switch (value) {
+                case "createdAt" -> CREATED_AT;
+                case "resolvedAt" -> RESOLVED_AT;
+                default -> throw new IllegalArgumentException("Unsupported export field: " + value);
+            };
+        }
+    }
+
+    /**
+     * Reject bad ranges before the response is committed, so the client still gets a 400
+     */
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range must have from < to");
+        }
+    }
+
+    /**
+     * Write every report whose date field falls in [from, to), with its audits, to the output.
+     * NDJSON emits one report per line with a nested audits array; CSV emits one line per
+     * audit with the report columns repeated (a report without audits has empty audit columns).
+     */
+    public long export(Format format, DateField field, LocalDateTime from, LocalDateTime to, OutputStream out) {
+        validateRange(from, to);
+        // Ordering keeps each report's rows adjacent so they can be grouped without buffering
+        // An audit is never older than its report, so when filtering by creation time the
+        // lower bound also applies to report_audit and lets Postgres prune older partitions
+        String auditBound = field == DateField.CREATED_AT ? "AND a.created_at >= ? " : "";
+        String sql = "SELECT " + REPORT_COLUMNS + ", " + AUDIT_COLUMNS + " FROM report r " +
+                "LEFT JOIN report_audit a ON a.report_id = r.report_id " +
+                auditBound +
+                "WHERE r." + field.column + " >= ? AND r." + field.column + " < ? " +
+                "ORDER BY r." + field.column + ", r.report_id, a.created_at";
+
+        ExportWriter writer = format == Format.NDJSON ? new NdjsonWriter(out) : new CsvWriter(out);
+        Long reports = transactionTemplate.execute(status -> {
+            // The PostgreSQL driver only uses a cursor with autocommit off, which the transaction provides
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                int index = 1;
+                if (field == DateField.CREATED_AT) {
+                    statement.setTimestamp(index++, Timestamp.valueOf(from));
+                }
+                statement.setTimestamp(index++, Timestamp.valueOf(from));
+                statement.setTimestamp(index, Timestamp.valueOf(to));
+                return statement;
+            }, (RowCallbackHandler) writer::row);
+            return writer.finish();
+        });
+        log.info("Exported {} reports ({} by {} in [{}, {}))", reports, format, field, from, to);
+        return reports != null ? reports : 0;
+    }
+
+    private interface ExportWriter {
+        void row(ResultSet rs) throws SQLException;
+
+        long finish();
+    }
+
+    private final class NdjsonWriter implements ExportWriter {
+        private final JsonGenerator generator;
+        private String currentReportId;
+        private long reports;
+
+        NdjsonWriter(OutputStream out) {
+            this.generator = objectMapper.createGenerator(out);
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            String reportId = rs.getString("report_id");
+            if (!reportId.equals(currentReportId)) {
+                endReport();
+                currentReportId = reportId;
+                reports++;
+                generator.writeStartObject();
+                for (String name : REPORT_FIELDS) {
+                    writeValue(name, rs.getObject(name));
+                }
+                generator.writeName("audits");
+                generator.writeStartArray();
+            }
+            if (rs.getObject("audit_id") != null) {
+                generator.writeStartObject();
+                for (String name : AUDIT_FIELDS) {
+                    writeValue(name.substring("audit_".length()), rs.getObject(name));
+                }
+                generator.writeEndObject();
+            }
+        }
+
+        @Override
+        public long finish() {
+            endReport();
+            generator.close();
+            return reports;
+        }
+
+        private void endReport() {
+            if (currentReportId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+
+        private void writeValue(String name, Object value) {
+            generator.writeName(name);
+            switch (value) {
+                case null -> generator.writeNull();
+                case Boolean b -> generator.writeBoolean(b);
+                case Long l -> generator.writeNumber(l);
+                case BigDecimal d -> generator.writeNumber(d);
+                case Timestamp t -> generator.writeString(t.toLocalDateTime().toString());
+                default -> generator.writeString(value.toString());
+            }
+        }
+    }
+
+    private static final class CsvWriter implements ExportWriter {
+        private final Writer writer;
+        private String currentReportId;
+        private long reports;
+
+        CsvWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine(String.join(",", REPORT_FIELDS) + "," + String.join(",", AUDIT_FIELDS));
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            String reportId = rs.getString("report_id");
+            if (!reportId.equals(currentReportId)) {
+                currentReportId = reportId;
+                reports++;
+            }
+            StringBuilder line = new StringBuilder(512);
+            for (String name : REPORT_FIELDS) {
+                appendCell(line, rs.getObject(name));
+            }
+            for (String name : AUDIT_FIELDS) {
+                appendCell(line, rs.getObject(name));
+            }
+            line.setLength(line.length() - 1);
+            writeLine(line.toString());
+        }
+
+        @Override
+        public long finish() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return reports;
+        }
+
+        private void writeLine(String line) {
+            try {
+                writer.write(line);
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // RFC 4180: quote cells containing separators, quotes or line breaks
+        private static void appendCell(StringBuilder line, Object value) {
+            if (value != null) {
+                String text = value instanceof Timestamp t ? t.toLocalDateTime().toString() : value.toString();
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    line.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else {
+                    line.append(text);
+                }
+            }
+            line.append(',');
+        }
+    }
+}
@@ -1,22 +1,42 @@
 package com.hoangnd.reportingservice.service;
 
+import com.hoangnd.reportingservice.cache.TwoLevelCache;
+import com.hoangnd.reportingservice.common.AppConstants;
+import com.hoangnd.reportingservice.common.ETags;
+import com.hoangnd.reportingservice.common.KeysetCursor;
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
 import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import com.hoangnd.reportingservice.mapper.ReportMapper;
 import com.hoangnd.reportingservice.model.dto.request.CreateReportRequest;
+import com.hoangnd.reportingservice.model.dto.response.BulkCreateReportResponse;
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
 import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
 import com.hoangnd.reportingservice.model.entity.Report;
 import com.hoangnd.reportingservice.model.entity.ReportAudit;
 import com.hoangnd.reportingservice.model.entity.ReportEvidence;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
 import com.hoangnd.reportingservice.model.enums.ReportActionType;
 import com.hoangnd.reportingservice.model.enums.ReportStatus;
 import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
 import com.hoangnd.reportingservice.repository.ReportRepository;
+import com.hoangnd.reportingservice.repository.projection.ReportTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,162 +45,201 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReportService {
     private final ReportRepository reportRepository;
+    private final StatisticsCache statisticsCache;
+    private final ReportAuditWriter auditWriter;
+    private final ReportClaimQueue claimQueue;
+    private final TwoLevelCache<ReportResponse> reportCache;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create new report
      */
     @Transactional
     public ReportResponse createReport(CreateReportRequest request) {
-        log.info("Creating report for entity: {} with ID: {}",
+        log.debug("Creating report for entity: {} with ID: {}",
                 request.getReportedEntityType(), request.getReportedEntityId());
 
-        // Build report entity
-        Report report = Report.builder()
-                .reporterUserId(request.getReporterUserId())
-                .reportedUserId(request.getReportedUserId())
-                .reportedEntityType(request.getReportedEntityType())
-                .reportedEntityId(request.getReportedEntityId())
-                .reportType(request.getReportType())
-                .priorityLevel(request.getPriorityLevel())
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .aiSeverityScore(request.getAiSeverityScore())
-                .build();
-
-        // Add evidence if provided
-        if (request.getEvidences() != null) {
-            request.getEvidences().forEach(evidenceRequest -> {
-                ReportEvidence evidence = ReportEvidence.builder()
-                        .evidenceType(evidenceRequest.getEvidenceType())
-                        .fileUrl(evidenceRequest.getFileUrl())
-                        .fileSize(evidenceRequest.getFileSize())
-                        .mimeType(evidenceRequest.getMimeType())
-                        .description(evidenceRequest.getDescription())
-                        .metadata(evidenceRequest.getMetadata())
-                        .build();
-                report.addEvidence(evidence);
-            });
-        }
-
-        // Create audit log for creation
-        ReportAudit audit = ReportAudit.builder()
-                .actionType(ReportActionType.CREATED)
-                .previousState(null)
-                .newState(ReportStatus.PENDING)
-                .notes("Report created")
-                .isAutomated(true)
-                .build();
-        report.addAudit(audit);
+        Report report = buildReport(request);
 
         // Save report
         Report savedReport = reportRepository.save(report);
-        log.info("Report created with ID: {}", savedReport.getReportId());
+        auditWriter.append(savedReport.getReportId(), creationAudit());
+        statisticsCache.reportCreated(savedReport.getStatus());
+        eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.CREATED, savedReport, null));
+        log.debug("Report created with ID: {}", savedReport.getReportId());
 
         return mapToResponse(savedReport);
     }
 
     /**
-     * Get report by ID
+     * Create many reports at once. Invalid items are reported back by index and skipped,
+     * valid ones are inserted with JDBC batching and flushed in fixed-size chunks so the
+     * persistence context never grows with the request.
+     */
+    @Transactional
+    public BulkCreateReportResponse createReportsBulk(List<CreateReportRequest> requests) {
+        log.debug("Bulk creating {} reports", requests.size());
+
+        List<UUID> createdIds = new ArrayList<>(requests.size());
+        List<BulkCreateReportResponse.ItemFailure> failures = new ArrayList<>();
+        List<Report> chunk = new ArrayList<>(AppConstants.BULK_FLUSH_SIZE);
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateReportRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                failures.add(BulkCreateReportResponse.ItemFailure.builder()
+                        .index(i)
+                        .errors(errors)
+                        .build());
+                continue;
+            }
+
+            chunk.add(buildReport(request));
+            if (chunk.size() == AppConstants.BULK_FLUSH_SIZE) {
+                flushChunk(chunk, createdIds);
+            }
+        }
+        flushChunk(chunk, createdIds);
+
+        statisticsCache.reportsCreated(ReportStatus.PENDING, createdIds.size());
+        log.debug("Bulk created {} reports, {} rejected", createdIds.size(), failures.size());
+
+        return BulkCreateReportResponse.builder()
+                .received(requests.size())
+                .created(createdIds.size())
+                .createdReportIds(createdIds)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * Get report by ID (read-through cache, no transaction so a hit never touches the pool)
      */
-    @Transactional(readOnly = true)
     public ReportResponse getReportById(UUID reportId) throws ResourceNotFoundException {
-        log.info("Retrieving report with ID: {}", reportId);
+        log.debug("Retrieving report with ID: {}", reportId);
+
+        ReportResponse cached = reportCache.get(reportId);
+        if (cached != null) {
+            return cached;
+        }
 
         Report report = reportRepository.findByIdWithEvidences(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
 
-        return mapToResponse(report);
+        ReportResponse response = mapToResponse(report);
+        reportCache.put(reportId, response);
+        return response;
     }
 
     /**
-     * Get all reports by reporter
+     * ETag of a report's current version, always from the database so a stale cached copy
+     * can never answer 304 for a newer row
      */
-    @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsByReporter(UUID reporterUserId) {
-        log.info("Retrieving reports for reporter: {}", reporterUserId);
-
-        List<Report> reports = reportRepository.findByReporterUserId(reporterUserId);
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public String getReportETag(UUID reportId) throws ResourceNotFoundException {
+        return ETags.of(reportRepository.findVersionById(reportId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId)));
     }
 
     /**
-     * Get all reports against a user
+     * Get a page of reports by reporter
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsAgainstUser(UUID reportedUserId) {
-        log.info("Retrieving reports against user: {}", reportedUserId);
-
-        List<Report> reports = reportRepository.findByReportedUserId(reportedUserId);
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReportResponse> getReportsByReporter(UUID reporterUserId, String cursor, int size) {
+        log.debug("Retrieving reports for reporter: {}", reporterUserId);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByReporterUserId(
+                reporterUserId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
-     * Get reports by status
+     * Get a page of reports against a user
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsByStatus(ReportStatus status) {
-        log.info("Retrieving reports with status: {}", status);
-
-        List<Report> reports = reportRepository.findByStatus(status);
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReportResponse> getReportsAgainstUser(UUID reportedUserId, String cursor, int size) {
+        log.debug("Retrieving reports against user: {}", reportedUserId);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByReportedUserId(
+                reportedUserId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
-     * Get reports for a specific entity
+     * Get a page of reports by status
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsByEntity(ReportedEntityType entityType, Long entityId) {
-        log.info("Retrieving reports for entity type: {} with ID: {}", entityType, entityId);
-
-        List<Report> reports = reportRepository.findByReportedEntityTypeAndReportedEntityId(entityType, entityId);
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReportResponse> getReportsByStatus(ReportStatus status, String cursor, int size) {
+        log.debug("Retrieving reports with status: {}", status);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByStatus(
+                status, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
-     * Get reports assigned to admin
+     * Get a page of reports for a specific entity
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsByAssignedAdmin(UUID adminId) {
-        log.info("Retrieving reports assigned to admin: {}", adminId);
-
-        List<Report> reports = reportRepository.findByAssignedAdminId(adminId);
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReportResponse> getReportsByEntity(ReportedEntityType entityType, Long entityId,
+                                                                 String cursor, int size) {
+        log.debug("Retrieving reports for entity type: {} with ID: {}", entityType, entityId);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByReportedEntity(
+                entityType, entityId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
-     * Get unassigned reports
+     * Get a page of reports assigned to admin
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getUnassignedReports() {
-        log.info("Retrieving unassigned reports");
-
-        List<Report> reports = reportRepository.findByAssignedAdminIdIsNull();
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReportResponse> getReportsByAssignedAdmin(UUID adminId, String cursor, int size) {
+        log.debug("Retrieving reports assigned to admin: {}", adminId);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByAssignedAdminId(
+                adminId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
-     * Get reports needing attention (high priority, unassigned)
+     * Get a page of unassigned reports
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getReportsNeedingAttention() {
-        log.info("Retrieving reports needing attention");
+    public CursorPageResponse<ReportResponse> getUnassignedReports(String cursor, int size) {
+        log.debug("Retrieving unassigned reports");
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageByAssignedAdminIdIsNull(
+                after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
+    }
 
-        List<Report> reports = reportRepository.findReportsNeedingAttention();
-        return reports.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Get a page of reports needing attention (high priority, unassigned)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReportResponse> getReportsNeedingAttention(String cursor, int size) {
+        log.debug("Retrieving reports needing attention");
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        List<Report> reports = reportRepository.findPageNeedingAttention(
+                after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(reports, pageSize);
     }
 
     /**
@@ -188,29 +247,71 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse assignReport(UUID reportId, UUID adminId, String notes) throws ResourceNotFoundException {
-        log.info("Assigning report {} to admin: {}", reportId, adminId);
+        log.debug("Assigning report {} to admin: {}", reportId, adminId);
 
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
-
-        UUID previousAdmin = report.getAssignedAdminId();
-        report.setAssignedAdminId(adminId);
+        ReportTransition transition = applied(reportId,
+                reportRepository.assignIfUnchanged(reportId, adminId, LocalDateTime.now()));
+        Report report = transition.report();
+        ReportStatus status = transition.previousStatus();
 
         // Create audit log
         ReportAudit audit = ReportAudit.builder()
                 .actionType(ReportActionType.ASSIGNED)
-                .previousState(report.getStatus())
-                .newState(report.getStatus())
+                .previousState(status)
+                .newState(status)
                 .adminUserId(adminId)
                 .notes(notes != null ? notes : "Report assigned to admin")
                 .isAutomated(false)
                 .build();
-        report.addAudit(audit);
+        auditWriter.append(reportId, audit);
 
-        Report updatedReport = reportRepository.save(report);
-        log.info("Report {} assigned to admin {}", reportId, adminId);
+        reportCache.evictAfterCommit(reportId);
+        eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.ASSIGNED, report, status));
+        log.debug("Report {} assigned to admin {}", reportId, adminId);
 
-        return mapToResponse(updatedReport);
+        return mapToResponse(report);
+    }
+
+    /**
+     * Claim the next report for an admin: highest priority first, oldest within a priority.
+     * The row is locked with SKIP LOCKED, so concurrent claims never get the same report
+     * and never wait on each other. Empty when nothing is claimable.
+     */
+    @Transactional
+    public Optional<ReportResponse> claimNextReport(UUID adminId) {
+        log.debug("Claiming next report for admin: {}", adminId);
+
+        UUID reportId = lockNextQueued();
+        if (reportId == null) {
+            reportId = lockNextFromTable();
+        }
+        if (reportId == null) {
+            log.debug("No claimable report for admin {}", adminId);
+            return Optional.empty();
+        }
+
+        // The row lock guarantees the guarded UPDATE matches
+        UUID claimedId = reportId;
+        Report report = reportRepository.assignIfUnchanged(claimedId, adminId, LocalDateTime.now())
+                .orElseThrow(() -> concurrentChange(claimedId))
+                .report();
+
+        // Create audit log
+        ReportAudit audit = ReportAudit.builder()
+                .actionType(ReportActionType.ASSIGNED)
+                .previousState(ReportStatus.PENDING)
+                .newState(ReportStatus.PENDING)
+                .adminUserId(adminId)
+                .notes("Report claimed from queue")
+                .isAutomated(false)
+                .build();
+        auditWriter.append(claimedId, audit);
+
+        reportCache.evictAfterCommit(claimedId);
+        eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.ASSIGNED, report, ReportStatus.PENDING));
+        log.debug("Report {} claimed by admin {}", claimedId, adminId);
+
+        return Optional.of(mapToResponse(report));
     }
 
     /**
@@ -218,18 +319,16 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse updateReportStatus(UUID reportId, ReportStatus newStatus, UUID adminId, String notes) throws ResourceNotFoundException {
-        log.info("Updating report {} to status: {}", reportId, newStatus);
+        log.debug("Updating report {} to status: {}", reportId, newStatus);
 
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
+        LocalDateTime now = LocalDateTime.now();
 
-        ReportStatus previousStatus = report.getStatus();
-        report.setStatus(newStatus);
-
-        // Set resolved timestamp if resolving
-        if (newStatus == ReportStatus.RESOLVED && report.getResolvedAt() == null) {
-            report.setResolvedAt(LocalDateTime.now());
-        }
+        // Set resolved timestamp if resolving (kept when already set)
+        LocalDateTime resolvedAt = newStatus == ReportStatus.RESOLVED ? now : null;
+        ReportTransition transition = applied(reportId,
+                reportRepository.updateStatusIfUnchanged(reportId, newStatus, resolvedAt, now));
+        Report report = transition.report();
+        ReportStatus previousStatus = transition.previousStatus();
 
         // Create audit log
         ReportAudit audit = ReportAudit.builder()
@@ -240,12 +339,14 @@ public class ReportService {
                 .notes(notes)
                 .isAutomated(false)
                 .build();
-        report.addAudit(audit);
+        auditWriter.append(reportId, audit);
 
-        Report updatedReport = reportRepository.save(report);
-        log.info("Report {} status updated from {} to {}", reportId, previousStatus, newStatus);
+        statisticsCache.reportStatusChanged(previousStatus, newStatus);
+        reportCache.evictAfterCommit(reportId);
+        eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.STATUS_CHANGED, report, previousStatus));
+        log.debug("Report {} status updated from {} to {}", reportId, previousStatus, newStatus);
 
-        return mapToResponse(updatedReport);
+        return mapToResponse(report);
     }
 
     /**
@@ -253,30 +354,30 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse resolveReport(UUID reportId, UUID adminId, String resolutionNotes) throws ResourceNotFoundException {
-        log.info("Resolving report: {}", reportId);
+        log.debug("Resolving report: {}", reportId);
 
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
-
-        report.setStatus(ReportStatus.RESOLVED);
-        report.setResolvedAt(LocalDateTime.now());
-        report.setResolutionNotes(resolutionNotes);
+        ReportTransition transition = applied(reportId,
+                reportRepository.resolveIfUnchanged(reportId, resolutionNotes, LocalDateTime.now()));
+        Report report = transition.report();
+        ReportStatus previousStatus = transition.previousStatus();
 
         // Create audit log
         ReportAudit audit = ReportAudit.builder()
                 .actionType(ReportActionType.RESOLVED)
-                .previousState(report.getStatus())
+                .previousState(previousStatus)
                 .newState(ReportStatus.RESOLVED)
                 .adminUserId(adminId)
                 .notes(resolutionNotes)
                 .isAutomated(false)
                 .build();
-        report.addAudit(audit);
+        auditWriter.append(reportId, audit);
 
-        Report resolvedReport = reportRepository.save(report);
-        log.info("Report {} resolved successfully", reportId);
+        statisticsCache.reportStatusChanged(previousStatus, ReportStatus.RESOLVED);
+        reportCache.evictAfterCommit(reportId);
+        eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.RESOLVED, report, previousStatus));
+        log.debug("Report {} resolved successfully", reportId);
 
-        return mapToResponse(resolvedReport);
+        return mapToResponse(report);
     }
 
     /**
@@ -284,7 +385,7 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse rejectReport(UUID reportId, UUID adminId, String rejectionReason) throws ResourceNotFoundException {
-        log.info("Rejecting report: {}", reportId);
+        log.debug("Rejecting report: {}", reportId);
 
         return updateReportStatus(reportId, ReportStatus.REJECTED, adminId, rejectionReason);
     }
@@ -294,14 +395,17 @@ public class ReportService {
      */
     @Transactional
     public void deleteReport(UUID reportId) throws ResourceNotFoundException {
-        log.info("Deleting report with ID: {}", reportId);
+        log.debug("Deleting report with ID: {}", reportId);
 
-        if (!reportRepository.existsById(reportId)) {
-            throw new ResourceNotFoundException("Report not found with ID: " + reportId);
-        }
+        // deleteById would load the entity anyway; loading it here keeps its fields for the event
+        Report report = reportRepository.findById(reportId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
 
-        reportRepository.deleteById(reportId);
-        log.info("Report {} deleted successfully", reportId);
+        reportRepository.delete(report);
+        statisticsCache.reportDeleted(report.getStatus());
+        reportCache.evictAfterCommit(reportId);
+        eventPublisher.publishEvent(ReportChangedEvent.deleted(report));
+        log.debug("Report {} deleted successfully", reportId);
     }
 
     /**
@@ -309,7 +413,7 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse verifyEvidence(UUID reportId, UUID evidenceId, String verificationNotes) throws ResourceNotFoundException {
-        log.info("Verifying evidence {} for report {}", evidenceId, reportId);
+        log.debug("Verifying evidence {} for report {}", evidenceId, reportId);
 
         Report report = reportRepository.findByIdWithEvidences(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + reportId));
@@ -321,79 +425,195 @@ public class ReportService {
 
         evidence.setVerified(true);
         evidence.setVerificationNotes(verificationNotes);
+        // Evidence changes do not dirty the report row, so bump its version for the ETag
+        report.setUpdatedAt(LocalDateTime.now());
 
         Report updatedReport = reportRepository.save(report);
-        log.info("Evidence {} verified for report {}", evidenceId, reportId);
+        reportCache.evictAfterCommit(reportId);
+        log.debug("Evidence {} verified for report {}", evidenceId, reportId);
 
         return mapToResponse(updatedReport);
     }
 
     /**
-     * Get report statistics
+     * Get report statistics, served from the in-memory counters
      */
-    @Transactional(readOnly = true)
     public ReportStatistics getStatistics() {
-        log.info("Retrieving report statistics");
+        log.debug("Retrieving report statistics");
 
+        StatusCounters<ReportStatus> counters = statisticsCache.reportCounters();
         return ReportStatistics.builder()
-                .totalReports(reportRepository.count())
-                .pendingCount(reportRepository.countByStatus(ReportStatus.PENDING))
-                .underReviewCount(reportRepository.countByStatus(ReportStatus.UNDER_REVIEW))
-                .resolvedCount(reportRepository.countByStatus(ReportStatus.RESOLVED))
-                .rejectedCount(reportRepository.countByStatus(ReportStatus.REJECTED))
+                .totalReports(counters.total())
+                .pendingCount(counters.get(ReportStatus.PENDING))
+                .inReviewCount(counters.get(ReportStatus.IN_REVIEW))
+                .underReviewCount(counters.get(ReportStatus.UNDER_REVIEW))
+                .escalatedCount(counters.get(ReportStatus.ESCALATED))
+                .resolvedCount(counters.get(ReportStatus.RESOLVED))
+                .rejectedCount(counters.get(ReportStatus.REJECTED))
                 .build();
     }
 
-    // Mapper method
-    private ReportResponse mapToResponse(Report report) {
-        List<ReportResponse.EvidenceResponse> evidences = null;
-
-        if (report.getEvidences() != null) {
-            evidences = report.getEvidences().stream()
-                    .map(evidence -> ReportResponse.EvidenceResponse.builder()
-                            .evidenceId(evidence.getEvidenceId())
-                            .evidenceType(evidence.getEvidenceType())
-                            .fileUrl(evidence.getFileUrl())
-                            .fileSize(evidence.getFileSize())
-                            .mimeType(evidence.getMimeType())
-                            .description(evidence.getDescription())
-                            .metadata(evidence.getMetadata())
-                            .uploadedAt(evidence.getUploadedAt())
-                            .isVerified(evidence.isVerified())
-                            .verificationNotes(evidence.getVerificationNotes())
-                            .build())
-                    .collect(Collectors.toList());
+    // No row changed: a missing report is a 404, anything else a concurrent change (409)
+    private ReportTransition applied(UUID reportId, Optional<ReportTransition> transition) throws ResourceNotFoundException {
+        if (transition.isPresent()) {
+            return transition.get();
         }
+        if (!reportRepository.existsById(reportId)) {
+            throw new ResourceNotFoundException("Report not found with ID: " + reportId);
+        }
+        throw concurrentChange(reportId);
+    }
 
-        return ReportResponse.builder()
-                .reportId(report.getReportId())
-                .reporterUserId(report.getReporterUserId())
-                .reportedUserId(report.getReportedUserId())
-                .reportedEntityType(report.getReportedEntityType())
-                .reportedEntityId(report.getReportedEntityId())
-                .reportType(report.getReportType())
-                .priorityLevel(report.getPriorityLevel())
-                .status(report.getStatus())
-                .title(report.getTitle())
-                .description(report.getDescription())
-                .assignedAdminId(report.getAssignedAdminId())
-                .resolutionNotes(report.getResolutionNotes())
-                .createdAt(report.getCreatedAt())
-                .updatedAt(report.getUpdatedAt())
-                .resolvedAt(report.getResolvedAt())
-                .aiSeverityScore(report.getAiSeverityScore())
-                .aiVerified(report.isAiVerified())
-                .evidences(evidences)
+    // Queue entries can be stale (assigned elsewhere, locked by another instance); skip those
+    private UUID lockNextQueued() {
+        for (int attempt = 0; attempt < AppConstants.MAX_CLAIM_ATTEMPTS; attempt++) {
+            UUID candidate = claimQueue.poll();
+            if (candidate == null) {
+                return null;
+            }
+            if (reportRepository.lockClaimable(candidate).isPresent()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Queue empty or exhausted: take the oldest claimable report, one partial-index probe per priority
+    private UUID lockNextFromTable() {
+        for (PriorityLevel priority : PriorityLevel.values()) {
+            Optional<UUID> reportId = reportRepository.lockNextClaimable(priority.name());
+            if (reportId.isPresent()) {
+                return reportId.get();
+            }
+        }
+        return null;
+    }
+
+    private static OptimisticLockingFailureException concurrentChange(UUID reportId) {
+        return new OptimisticLockingFailureException("Report " + reportId + " was modified concurrently, retry the request");
+    }
+
+    // Field path -> message for every constraint violation (null items are rejected as a whole)
+    private Map<String, String> validate(CreateReportRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (request == null) {
+            errors.put("report", "Report is required");
+            return errors;
+        }
+        for (ConstraintViolation<CreateReportRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    // One batched INSERT per table for the chunk, then detach it to keep memory flat
+    private void flushChunk(List<Report> chunk, List<UUID> createdIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        reportRepository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(report -> {
+            createdIds.add(report.getReportId());
+            auditWriter.append(report.getReportId(), creationAudit());
+            eventPublisher.publishEvent(ReportChangedEvent.of(ReportChangedEvent.Type.CREATED, report, null));
+        });
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    // Builds a new PENDING report with its evidences
+    private Report buildReport(CreateReportRequest request) {
+        // Build report entity
+        Report report = Report.builder()
+                .reporterUserId(request.getReporterUserId())
+                .reportedUserId(request.getReportedUserId())
+                .reportedEntityType(request.getReportedEntityType())
+                .reportedEntityId(request.getReportedEntityId())
+                .reportType(request.getReportType())
+                .priorityLevel(request.getPriorityLevel())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .aiSeverityScore(request.getAiSeverityScore())
+                .build();
+
+        // Add evidence if provided
+        if (request.getEvidences() != null) {
+            request.getEvidences().forEach(evidenceRequest -> {
+                ReportEvidence evidence = ReportEvidence.builder()
+                        .evidenceType(evidenceRequest.getEvidenceType())
+                        .fileUrl(evidenceRequest.getFileUrl())
+                        .fileSize(evidenceRequest.getFileSize())
+                        .mimeType(evidenceRequest.getMimeType())
+                        .description(evidenceRequest.getDescription())
+                        .metadata(evidenceRequest.getMetadata())
+                        .build();
+                report.addEvidence(evidence);
+            });
+        }
+
+        return report;
+    }
+
+    // Audit log for creation
+    private ReportAudit creationAudit() {
+        return ReportAudit.builder()
+                .actionType(ReportActionType.CREATED)
+                .previousState(null)
+                .newState(ReportStatus.PENDING)
+                .notes("Report created")
+                .isAutomated(true)
                 .build();
     }
 
+    // Clamp the requested page size to [1, MAX_PAGE_SIZE]
+    private int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, AppConstants.MAX_PAGE_SIZE));
+    }
+
+    // Page queries fetch one extra row to learn whether another page exists
+    private CursorPageResponse<ReportResponse> toPage(List<Report> reports, int pageSize) {
+        boolean hasNext = reports.size() > pageSize;
+        List<Report> page = hasNext ? reports.subList(0, pageSize) : reports;
+
+        // The page rows are managed entities, so a single fetch join initializes their
+        // evidences in place and mapToResponse no longer lazy-loads one collection per row
+        if (!page.isEmpty()) {
+            reportRepository.findWithEvidencesByIdIn(page.stream()
+                    .map(Report::getReportId)
+                    .collect(Collectors.toList()));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Report last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getReportId()).encode();
+        }
+
+        return CursorPageResponse.<ReportResponse>builder()
+                .items(page.stream()
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Mapper method
+    private ReportResponse mapToResponse(Report report) {
+        return ReportMapper.INSTANCE.toResponse(report);
+    }
+
     // Statistics DTO
     @lombok.Data
     @lombok.Builder
     public static class ReportStatistics {
         private long totalReports;
         private long pendingCount;
+        private long inReviewCount;
         private long underReviewCount;
+        private long escalatedCount;
         private long resolvedCount;
         private long rejectedCount;
     }
@@ -0,0 +1,194 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Pushes committed report changes to moderator dashboards over Server-Sent Events.
+ * Every change gets a sequence id and is kept in a bounded replay buffer, so a client
+ * reconnecting with Last-Event-ID receives what it missed; a client that fell further
+ * behind than the buffer gets a "resync" event and reloads its lists once.
+ * Each subscriber has its own bounded queue and sender thread, so a slow connection only
+ * delays itself; when its queue overflows the backlog is replaced by the same "resync" event.
+ * Heartbeats carry the in-memory statistics, replacing the dashboards' count polling.
+ */
+@Component
+@Slf4j
+public class ReportStreamBroadcaster {
+    private final ReportService reportService;
+    private final int replaySize;
+    private final int subscriberQueueSize;
+    private final Duration emitterTimeout;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ArrayDeque<Entry> replay = new ArrayDeque<>();
+    private long sequence;
+
+    public ReportStreamBroadcaster(ReportService reportService,
+                                   @Value("${reporting.stream.replay-size:1000}") int replaySize,
+                                   @Value("${reporting.stream.subscriber-queue-size:256}") int subscriberQueueSize,
+                                   @Value("${reporting.stream.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.reportService = reportService;
+        this.replaySize = replaySize;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    /**
+     * Open a stream, replaying the changes after lastEventId when the client is resuming
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // Snapshot and registration happen under the same lock as append, so the client's
+        // queue holds the replay followed by live events with no gap
+        synchronized (replay) {
+            // Ids from before a restart are ahead of the counter and are just as unusable
+            if (lastEventId != null && (lastEventId > sequence || isOlderThanReplay(lastEventId))) {
+                long current = sequence;
+                subscriber.offer(() -> resyncEvent(current));
+            } else if (lastEventId != null) {
+                replay.stream().filter(entry -> entry.id() > lastEventId).forEach(subscriber::enqueue);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Fan a committed change out to all connected dashboards
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportChanged(ReportChangedEvent event) {
+        synchronized (replay) {
+            Entry entry = new Entry(++sequence, event);
+            replay.addLast(entry);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.enqueue(entry));
+        }
+    }
+
+    /**
+     * Keep idle connections alive through proxies and refresh the dashboard counters
+     */
+    @Scheduled(fixedRateString = "${reporting.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        ReportService.ReportStatistics statistics = reportService.getStatistics();
+        // A subscriber with a full queue already has events to deliver, so it can skip this one
+        subscribers.forEach(subscriber ->
+                subscriber.offer(() -> SseEmitter.event().name("statistics").data(statistics)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter.complete();
+        });
+    }
+
+    // Package-private so tests can observe what a subscriber is sent
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeout.toMillis());
+    }
+
+    private boolean isOlderThanReplay(long lastEventId) {
+        Entry oldest = replay.peekFirst();
+        return oldest != null && lastEventId < oldest.id() - 1;
+    }
+
+    private SseEmitter.SseEventBuilder resyncEvent(long id) {
+        return SseEmitter.event().id(Long.toString(id)).name("resync").data(reportService.getStatistics());
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue;
+        private final Thread sender;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+            this.sender = Thread.ofVirtual().name("report-stream").unstarted(this::drain);
+        }
+
+        void start() {
+            sender.start();
+        }
+
+        boolean offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            return queue.offer(event);
+        }
+
+        // Called under the replay lock, so entries arrive in sequence order
+        void enqueue(Entry entry) {
+            if (!offer(entry::toSse)) {
+                // Too far behind to catch up event by event: swap the backlog for one resync
+                log.debug("Report stream subscriber fell {} events behind, sending resync", subscriberQueueSize);
+                queue.clear();
+                offer(() -> resyncEvent(entry.id()));
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            sender.interrupt();
+        }
+
+        private void drain() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    send(queue.take().get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // A failed write drops only this subscriber
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping report stream subscriber: {}", e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private record Entry(long id, ReportChangedEvent event) {
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(event.getType().name())
+                    .data(event);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.repository.FeedbackRepository;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory report and feedback counts per status backing the statistics endpoints.
+ * Seeded from one GROUP BY query per table, adjusted after each committed mutation
+ * and periodically reconciled against the database to absorb drift.
+ * A mutating transaction holds the read side of commitLock from just before its commit
+ * until its delta is applied; a reconcile reads the counts under the write side. Every
+ * commit its query sees has therefore applied its delta and none it misses has, so the
+ * reset is exact.
+ */
+@Component
+@Slf4j
+public class StatisticsCache {
+    private final ReportRepository reportRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    private final StatusCounters<ReportStatus> reportCounters = new StatusCounters<>(ReportStatus.class);
+    private final StatusCounters<FeedbackStatus> feedbackCounters = new StatusCounters<>(FeedbackStatus.class);
+
+    public StatisticsCache(ReportRepository reportRepository,
+                           FeedbackRepository feedbackRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.reportRepository = reportRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Re-seed all counters from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${reporting.statistics.reconcile-interval-ms:300000}",
+            fixedDelayString = "${reporting.statistics.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        try {
+            // The transaction takes its connection before the lock, so commits queued on the
+            // lock while holding connections cannot starve the count queries of one
+            transactionTemplate.executeWithoutResult(status -> {
+                commitLock.writeLock().lock();
+                try {
+                    reportCounters.reset(toCounts(reportRepository.countReportsByStatus(), ReportStatus.class));
+                    feedbackCounters.reset(toCounts(feedbackRepository.countFeedbackByStatus(), FeedbackStatus.class));
+                } finally {
+                    commitLock.writeLock().unlock();
+                }
+            });
+            log.debug("Statistics counters reconciled");
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile statistics counters: {}", e.getMessage());
+        }
+    }
+
+    public StatusCounters<ReportStatus> reportCounters() {
+        if (!reportCounters.isSeeded()) {
+            reconcile();
+        }
+        return reportCounters;
+    }
+
+    public StatusCounters<FeedbackStatus> feedbackCounters() {
+        if (!feedbackCounters.isSeeded()) {
+            reconcile();
+        }
+        return feedbackCounters;
+    }
+
+    public void reportCreated(ReportStatus status) {
+        reportsCreated(status, 1);
+    }
+
+    public void reportsCreated(ReportStatus status, long count) {
+        afterCommit(() -> reportCounters.add(status, count));
+    }
+
+    public void reportStatusChanged(ReportStatus from, ReportStatus to) {
+        afterCommit(() -> reportCounters.transition(from, to));
+    }
+
+    public void reportDeleted(ReportStatus status) {
+        afterCommit(() -> reportCounters.decrement(status));
+    }
+
+    public void feedbackCreated(FeedbackStatus status) {
+        feedbacksCreated(status, 1);
+    }
+
+    public void feedbacksCreated(FeedbackStatus status, long count) {
+        afterCommit(() -> feedbackCounters.add(status, count));
+    }
+
+    public void feedbackStatusChanged(FeedbackStatus from, FeedbackStatus to) {
+        afterCommit(() -> feedbackCounters.transition(from, to));
+    }
+
+    public void feedbackDeleted(FeedbackStatus status) {
+        afterCommit(() -> feedbackCounters.decrement(status));
+    }
+
+    /**
+     * Apply a counter delta once the current transaction commits, holding the read side of
+     * commitLock across the commit itself. Without a transaction it is applied immediately.
+     */
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                delta.run();
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCompletion() {
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                delta.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    commitLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private static <S extends Enum<S>> Map<S, Long> toCounts(List<Object[]> rows, Class<S> statusType) {
+        Map<S, Long> counts = new EnumMap<>(statusType);
+        for (Object[] row : rows) {
+            counts.put(statusType.cast(row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hoangnd.reportingservice.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free per-status row counters, seeded from a GROUP BY snapshot and
+ * adjusted in place as rows are created, change status or are deleted.
+ * The owner keeps a reset exact by applying no delta while the snapshot is read.
+ */
+public class StatusCounters<S extends Enum<S>> {
+    private final Map<S, AtomicLong> counts;
+    private volatile boolean seeded;
+
+    public StatusCounters(Class<S> statusType) {
+        this.counts = new EnumMap<>(statusType);
+        for (S status : statusType.getEnumConstants()) {
+            counts.put(status, new AtomicLong());
+        }
+    }
+
+    /**
+     * Replace every counter with the given snapshot (missing statuses count as zero)
+     */
+    public void reset(Map<S, Long> snapshot) {
+        counts.forEach((status, count) -> count.set(snapshot.getOrDefault(status, 0L)));
+        seeded = true;
+    }
+
+    public void increment(S status) {
+        add(status, 1);
+    }
+
+    public void decrement(S status) {
+        add(status, -1);
+    }
+
+    public void add(S status, long delta) {
+        counts.get(status).addAndGet(delta);
+    }
+
+    public void transition(S from, S to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            decrement(from);
+        }
+        increment(to);
+    }
+
+    public long get(S status) {
+        return counts.get(status).get();
+    }
+
+    public long total() {
+        long total = 0;
+        for (AtomicLong count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+}
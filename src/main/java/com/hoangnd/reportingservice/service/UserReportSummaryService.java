@@ -0,0 +1,122 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.dto.response.UserReportSummaryResponse;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.hoangnd.reportingservice.common.AppConstants.MAX_SUMMARY_BATCH;
+
+/**
+ * Trust-check lookups against the per-user report summary: one primary key read of
+ * user_report_summary plus at most 30 day buckets per user, independent of how many
+ * reports exist. Users that were never reported get an all-zero summary.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserReportSummaryService {
+    private static final EnumSet<ReportStatus> OPEN_STATUSES =
+            EnumSet.of(ReportStatus.PENDING, ReportStatus.IN_REVIEW, ReportStatus.UNDER_REVIEW, ReportStatus.ESCALATED);
+    private static final TypeReference<Map<String, Long>> COUNTS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Get the report summary of one reported user
+     */
+    public UserReportSummaryResponse getSummary(UUID reportedUserId) {
+        return getSummaries(List.of(reportedUserId)).getFirst();
+    }
+
+    /**
+     * Get report summaries for many reported users in two queries, in request order
+     */
+    public List<UserReportSummaryResponse> getSummaries(Collection<UUID> reportedUserIds) {
+        if (reportedUserIds.size() > MAX_SUMMARY_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_SUMMARY_BATCH + " users per summary lookup");
+        }
+        log.debug("Retrieving report summaries for {} users", reportedUserIds.size());
+
+        UUID[] ids = new LinkedHashSet<>(reportedUserIds).toArray(UUID[]::new);
+        Map<UUID, UserReportSummaryResponse> summaries = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT reported_user_id, total_reports, type_counts, " +
+                    "status_counts, last_reported_at FROM user_report_summary WHERE reported_user_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            UserReportSummaryResponse summary = mapSummary(rs);
+            summaries.put(summary.getReportedUserId(), summary);
+        });
+
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.minusDays(6);
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT reported_user_id, " +
+                    "SUM(report_count) FILTER (WHERE day >= ?) AS last_7, SUM(report_count) AS last_30 " +
+                    "FROM user_report_daily WHERE reported_user_id = ANY(?) AND day >= ? GROUP BY reported_user_id");
+            statement.setDate(1, Date.valueOf(weekStart));
+            statement.setArray(2, connection.createArrayOf("uuid", ids));
+            statement.setDate(3, Date.valueOf(today.minusDays(29)));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            UserReportSummaryResponse summary = summaries.get(rs.getObject("reported_user_id", UUID.class));
+            if (summary != null) {
+                summary.setReportsLast7Days(rs.getLong("last_7"));
+                summary.setReportsLast30Days(rs.getLong("last_30"));
+            }
+        });
+
+        return reportedUserIds.stream()
+                .map(id -> summaries.containsKey(id) ? summaries.get(id) : empty(id))
+                .toList();
+    }
+
+    private UserReportSummaryResponse mapSummary(ResultSet rs) throws SQLException {
+        Map<ReportType, Long> byType = toEnumCounts(rs.getString("type_counts"), ReportType.class);
+        Map<ReportStatus, Long> byStatus = toEnumCounts(rs.getString("status_counts"), ReportStatus.class);
+        Timestamp lastReportedAt = rs.getTimestamp("last_reported_at");
+        return UserReportSummaryResponse.builder()
+                .reportedUserId(rs.getObject("reported_user_id", UUID.class))
+                .totalReports(rs.getLong("total_reports"))
+                .openReports(OPEN_STATUSES.stream().mapToLong(byStatus::get).sum())
+                .countsByType(byType)
+                .countsByStatus(byStatus)
+                .lastReportedAt(lastReportedAt != null ? lastReportedAt.toLocalDateTime() : null)
+                .build();
+    }
+
+    // Every enum constant is present so clients need no null checks
+    private <E extends Enum<E>> Map<E, Long> toEnumCounts(String json, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0L);
+        }
+        objectMapper.readValue(json, COUNTS).forEach((name, count) -> counts.put(Enum.valueOf(type, name), count));
+        return counts;
+    }
+
+    private UserReportSummaryResponse empty(UUID reportedUserId) {
+        return UserReportSummaryResponse.builder()
+                .reportedUserId(reportedUserId)
+                .countsByType(toEnumCounts("{}", ReportType.class))
+                .countsByStatus(toEnumCounts("{}", ReportStatus.class))
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps user_report_summary and user_report_daily in step with report changes. Deltas
+ * from all events of a transaction are summed per user and written once just before
+ * it commits, so the summary commits or rolls back with the change and a bulk create
+ * costs one upsert per reported user rather than one per report.
+ */
+@Component
+@Slf4j
+public class UserReportSummaryWriter {
+    private static final String UPSERT_SUMMARY_SQL = "INSERT INTO user_report_summary AS s " +
+            "(reported_user_id, total_reports, type_counts, status_counts, last_reported_at, updated_at) " +
+            "VALUES (?, ?, ?::jsonb, ?::jsonb, ?, ?) " +
+            "ON CONFLICT (reported_user_id) DO UPDATE SET " +
+            "total_reports = s.total_reports + EXCLUDED.total_reports, " +
+            "type_counts = jsonb_add_counts(s.type_counts, EXCLUDED.type_counts), " +
+            "status_counts = jsonb_add_counts(s.status_counts, EXCLUDED.status_counts), " +
+            "last_reported_at = GREATEST(s.last_reported_at, EXCLUDED.last_reported_at), " +
+            "updated_at = EXCLUDED.updated_at";
+    private static final String UPSERT_DAILY_SQL = "INSERT INTO user_report_daily AS d " +
+            "(reported_user_id, day, report_count) VALUES (?, ?, ?) " +
+            "ON CONFLICT (reported_user_id, day) DO UPDATE SET report_count = d.report_count + EXCLUDED.report_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int dailyRetentionDays;
+
+    public UserReportSummaryWriter(JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${reporting.user-summary.daily-retention-days:31}") int dailyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.dailyRetentionDays = dailyRetentionDays;
+    }
+
+    /**
+     * Add the event's effect to the pending deltas of the current transaction
+     */
+    @EventListener
+    public void onReportChanged(ReportChangedEvent event) {
+        if (event.getReportedUserId() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<UUID, UserDelta> deltas = new TreeMap<>();
+            apply(deltas, event);
+            write(deltas);
+            return;
+        }
+        apply(pendingDeltas(), event);
+    }
+
+    /**
+     * Delete daily buckets no window reads any more
+     */
+    @Scheduled(cron = "${reporting.user-summary.cleanup-cron:0 30 3 * * *}")
+    public void deleteExpiredDays() {
+        int deleted = jdbcTemplate.update("DELETE FROM user_report_daily WHERE day < ?",
+                Date.valueOf(LocalDate.now().minusDays(dailyRetentionDays)));
+        log.info("Deleted {} expired user report day buckets", deleted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, UserDelta> pendingDeltas() {
+        Map<UUID, UserDelta> deltas = (Map<UUID, UserDelta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            // Sorted by user so concurrent transactions lock summary rows in the same order
+            Map<UUID, UserDelta> created = new TreeMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UserReportSummaryWriter.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    private static void apply(Map<UUID, UserDelta> deltas, ReportChangedEvent event) {
+        UserDelta delta = deltas.computeIfAbsent(event.getReportedUserId(), id -> new UserDelta());
+        switch (event.getType()) {
+            case CREATED -> {
+                delta.total++;
+                delta.types.merge(event.getReportType().name(), 1L, Long::sum);
+                delta.statuses.merge(event.getStatus().name(), 1L, Long::sum);
+                delta.days.merge(event.getCreatedAt().toLocalDate(), 1L, Long::sum);
+                if (delta.lastReportedAt == null || event.getCreatedAt().isAfter(delta.lastReportedAt)) {
+                    delta.lastReportedAt = event.getCreatedAt();
+                }
+            }
+            case STATUS_CHANGED, RESOLVED -> {
+                ReportStatus from = event.getPreviousStatus();
+                if (from != event.getStatus()) {
+                    delta.statuses.merge(from.name(), -1L, Long::sum);
+                    delta.statuses.merge(event.getStatus().name(), 1L, Long::sum);
+                }
+            }
+            case DELETED -> {
+                delta.total--;
+                delta.types.merge(event.getReportType().name(), -1L, Long::sum);
+                delta.statuses.merge(event.getPreviousStatus().name(), -1L, Long::sum);
+                delta.days.merge(event.getCreatedAt().toLocalDate(), -1L, Long::sum);
+            }
+            case ASSIGNED -> {
+                // Assignment does not change any count
+            }
+        }
+    }
+
+    private void write(Map<UUID, UserDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> summaries = new ArrayList<>(deltas.size());
+        List<Object[]> days = new ArrayList<>();
+        deltas.forEach((userId, delta) -> {
+            summaries.add(new Object[]{
+                    userId,
+                    delta.total,
+                    objectMapper.writeValueAsString(delta.types),
+                    objectMapper.writeValueAsString(delta.statuses),
+                    delta.lastReportedAt != null ? Timestamp.valueOf(delta.lastReportedAt) : null,
+                    now});
+            delta.days.forEach((day, count) -> days.add(new Object[]{userId, Date.valueOf(day), count}));
+        });
+        jdbcTemplate.batchUpdate(UPSERT_SUMMARY_SQL, summaries);
+        if (!days.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, days);
+        }
+        log.debug("Applied report summary deltas for {} users", deltas.size());
+    }
+
+    // Net change for one reported user within a transaction
+    private static final class UserDelta {
+        private long total;
+        private final Map<String, Long> types = new TreeMap<>();
+        private final Map<String, Long> statuses = new TreeMap<>();
+        private final Map<LocalDate, Long> days = new TreeMap<>();
+        private LocalDateTime lastReportedAt;
+    }
+}
@@ -0,0 +1,7 @@
+-- Kafka coordinates (topic-partition@offset) of the AI result a feedback was created from.
+-- A redelivered poll finds its already saved records here and skips them; the unique index
+-- makes a duplicate insert fail instead of creating the feedback twice.
+-- NULL for feedback created through the API, and NULLs never collide.
+ALTER TABLE feedback ADD COLUMN source_record VARCHAR(255);
+
+CREATE UNIQUE INDEX uq_feedback_source_record ON feedback (source_record);
@@ -0,0 +1,25 @@
+-- ============================================
+-- REPORT AUDIT STAGING LOG
+-- ============================================
+
+-- Report mutations append their audits here, inside their own transaction. The table has
+-- no foreign key, no secondary index and no partitioning, so the append is about the cheapest
+-- durable write there is. ReportAuditDrainer moves the rows into report_audit in large
+-- batches that span many requests, deleting them in the same statement.
+CREATE TABLE report_audit_log (
+                                  audit_log_id BIGSERIAL PRIMARY KEY,
+
+                                  report_audit_id UUID NOT NULL,
+                                  report_id UUID NOT NULL,
+                                  admin_user_id UUID,
+                                  action_type VARCHAR(50) NOT NULL,
+                                  previous_state VARCHAR(50),
+                                  new_state VARCHAR(50),
+                                  notes TEXT,
+                                  is_automated BOOLEAN NOT NULL,
+
+                                  created_at TIMESTAMP NOT NULL
+);
+
+-- Rows live for a drain interval; vacuum often so dead tuples do not slow the drain scans
+ALTER TABLE report_audit_log SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
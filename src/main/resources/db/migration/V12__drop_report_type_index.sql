@@ -0,0 +1,8 @@
+-- ============================================
+-- DROP idx_report_type
+-- report_type has four values, so a lookup on it matches about a quarter of
+-- the table and the planner scans the table instead. The index was never used
+-- and only added write cost to every insert.
+-- ============================================
+
+DROP INDEX IF EXISTS idx_report_type;
@@ -0,0 +1,25 @@
+-- ============================================
+-- FEEDBACK KEYSET INDEXES
+-- Streamed feedback lists are read in keyset pages on (created_at, feedback_id),
+-- one short transaction per page, so each filter needs an index that ends in
+-- the page order. These replace the status indexes that stopped at created_at.
+-- ============================================
+
+-- findPageByListingId
+CREATE INDEX IF NOT EXISTS idx_feedback_listing_created_id
+    ON feedback (listing_id, created_at, feedback_id);
+
+-- findPageBySellerUserId
+CREATE INDEX IF NOT EXISTS idx_feedback_seller_created_id
+    ON feedback (seller_user_id, created_at, feedback_id);
+
+-- findPageByFeedbackStatus, findByFeedbackStatus
+CREATE INDEX IF NOT EXISTS idx_feedback_status_created_id
+    ON feedback (status, created_at, feedback_id);
+DROP INDEX IF EXISTS idx_feedback_status_created;
+
+-- findPageUnreviewed, findByFeedbackStatusAndReviewedByStaffIdIsNull
+CREATE INDEX IF NOT EXISTS idx_feedback_unreviewed_created_id
+    ON feedback (status, created_at, feedback_id)
+    WHERE reviewed_by_staff_id IS NULL;
+DROP INDEX IF EXISTS idx_feedback_unreviewed_status;
@@ -0,0 +1,135 @@
+-- ============================================
+-- SECONDARY INDEXES
+-- One index per repository access path. Report list pages seek on
+-- (created_at, report_id), so those columns trail every report index
+-- used by a keyset page query.
+-- ============================================
+
+-- The Report entity was mapped to "report_audits", so Hibernate created and
+-- wrote to a second audit table next to this schema's report_audit.
+-- Fold any rows written there back into report_audit before indexing it.
+DO $$
+BEGIN
+    IF to_regclass('report_audits') IS NOT NULL THEN
+        INSERT INTO report_audit (report_audit_id, report_id, admin_user_id, action_type,
+                                  previous_state, new_state, notes, is_automated, created_at)
+        SELECT report_audit_id, report_id, admin_user_id, action_type,
+               previous_state, new_state, notes, is_automated, created_at
+        FROM report_audits
+        ON CONFLICT (report_audit_id) DO NOTHING;
+
+        DROP TABLE report_audits;
+    END IF;
+END $$;
+
+-- Report
+-- findPageByStatus, findByStatus, findOverdueReports, existsBy...AndStatus
+CREATE INDEX IF NOT EXISTS idx_report_status_created
+    ON report (status, created_at, report_id);
+
+-- findPageByReporterUserId, findByReporterUserId
+CREATE INDEX IF NOT EXISTS idx_report_reporter_created
+    ON report (reporter_user_id, created_at, report_id);
+
+-- findPageByReportedUserId, findByReportedUserId, countByReportedUserId
+CREATE INDEX IF NOT EXISTS idx_report_reported_user_created
+    ON report (reported_user_id, created_at, report_id)
+    WHERE reported_user_id IS NOT NULL;
+
+-- findPageByReportedEntity, findByReportedEntityTypeAndReportedEntityId
+CREATE INDEX IF NOT EXISTS idx_report_entity_created
+    ON report (reported_entity_type, reported_entity_id, created_at, report_id);
+
+-- findPageByAssignedAdminId, findByAssignedAdminId
+CREATE INDEX IF NOT EXISTS idx_report_assigned_admin_created
+    ON report (assigned_admin_id, created_at, report_id)
+    WHERE assigned_admin_id IS NOT NULL;
+
+-- findPageByAssignedAdminIdIsNull, findByAssignedAdminIdIsNull
+CREATE INDEX IF NOT EXISTS idx_report_unassigned_created
+    ON report (created_at, report_id)
+    WHERE assigned_admin_id IS NULL;
+
+-- findPageNeedingAttention, findReportsNeedingAttention (literal predicates, so the partial index always qualifies)
+CREATE INDEX IF NOT EXISTS idx_report_needs_attention
+    ON report (created_at, report_id)
+    WHERE status = 'PENDING' AND assigned_admin_id IS NULL;
+
+-- findByCreatedAtBetween
+CREATE INDEX IF NOT EXISTS idx_report_created
+    ON report (created_at, report_id);
+
+-- findByResolvedAtBetween
+CREATE INDEX IF NOT EXISTS idx_report_resolved
+    ON report (resolved_at)
+    WHERE resolved_at IS NOT NULL;
+
+-- findByPriorityLevel, findByStatusAndPriorityLevel[OrderByCreatedAtAsc]
+CREATE INDEX IF NOT EXISTS idx_report_priority_status_created
+    ON report (priority_level, status, created_at);
+
+-- findByReportType, countByReportType
+CREATE INDEX IF NOT EXISTS idx_report_type
+    ON report (report_type);
+
+-- findByAiVerifiedTrue
+CREATE INDEX IF NOT EXISTS idx_report_ai_verified
+    ON report (created_at)
+    WHERE ai_verified;
+
+-- findByIdWithEvidences, findWithEvidencesByIdIn, cascade deletes
+CREATE INDEX IF NOT EXISTS idx_report_evidence_report
+    ON report_evidence (report_id);
+
+-- findByIdWithAudits, cascade deletes
+CREATE INDEX IF NOT EXISTS idx_report_audit_report_created
+    ON report_audit (report_id, created_at);
+
+-- Feedback
+-- findByListingId, findByListingIdAndFeedbackStatus, existsByListingIdAndFeedbackStatus
+CREATE INDEX IF NOT EXISTS idx_feedback_listing_status
+    ON feedback (listing_id, status);
+
+-- findLatestFeedbackPerListing (MAX(created_at) per listing)
+CREATE INDEX IF NOT EXISTS idx_feedback_listing_created
+    ON feedback (listing_id, created_at DESC);
+
+-- findBySellerUserId, findBySellerUserIdAndFeedbackStatus, countBySellerUserId
+CREATE INDEX IF NOT EXISTS idx_feedback_seller_status
+    ON feedback (seller_user_id, status);
+
+-- findByFeedbackStatus
+CREATE INDEX IF NOT EXISTS idx_feedback_status_created
+    ON feedback (status, created_at);
+
+-- findByFeedbackStatusAndReviewedByStaffIdIsNull (status is bound, so it stays a key column)
+CREATE INDEX IF NOT EXISTS idx_feedback_unreviewed_status
+    ON feedback (status, created_at)
+    WHERE reviewed_by_staff_id IS NULL;
+
+-- findByReviewedByStaffId
+CREATE INDEX IF NOT EXISTS idx_feedback_reviewer
+    ON feedback (reviewed_by_staff_id)
+    WHERE reviewed_by_staff_id IS NOT NULL;
+
+-- findByPreviousFeedbackId
+CREATE INDEX IF NOT EXISTS idx_feedback_previous
+    ON feedback (previous_feedback_id)
+    WHERE previous_feedback_id IS NOT NULL;
+
+-- findByIsResubmissionTrue
+CREATE INDEX IF NOT EXISTS idx_feedback_resubmission
+    ON feedback (created_at)
+    WHERE is_resubmission;
+
+-- findByCreatedAtBetween
+CREATE INDEX IF NOT EXISTS idx_feedback_created
+    ON feedback (created_at);
+
+-- findByIdWithItems, cascade deletes
+CREATE INDEX IF NOT EXISTS idx_feedback_item_feedback
+    ON feedback_item (feedback_id);
+
+-- findByIdWithAudits, cascade deletes
+CREATE INDEX IF NOT EXISTS idx_feedback_audit_feedback_created
+    ON feedback_audit (feedback_id, created_at);
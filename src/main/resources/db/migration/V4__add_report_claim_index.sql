@@ -0,0 +1,9 @@
+-- ============================================
+-- CLAIM QUEUE
+-- ============================================
+
+-- findClaimCandidates, lockNextClaimable: oldest claimable report per priority.
+-- Covers only PENDING, unassigned rows, so it stays small as the table grows.
+CREATE INDEX IF NOT EXISTS idx_report_claimable
+    ON report (priority_level, created_at)
+    WHERE status = 'PENDING' AND assigned_admin_id IS NULL;
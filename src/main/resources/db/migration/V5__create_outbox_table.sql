@@ -0,0 +1,20 @@
+-- ============================================
+-- TRANSACTIONAL OUTBOX
+-- ============================================
+
+-- Lifecycle events written in the same transaction as the report/feedback change
+-- and relayed to Kafka by OutboxRelay, which deletes them once acknowledged.
+CREATE TABLE outbox (
+                        outbox_id BIGSERIAL PRIMARY KEY,
+
+                        aggregate_type VARCHAR(50) NOT NULL,
+                        aggregate_id UUID NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_type VARCHAR(50) NOT NULL,
+                        payload TEXT NOT NULL,
+
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Rows live for milliseconds; vacuum often so dead tuples do not slow the relay scans
+ALTER TABLE outbox SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
@@ -0,0 +1,154 @@
+-- ============================================
+-- MONTHLY RANGE PARTITIONS FOR AUDIT TABLES
+-- ============================================
+
+-- Audit rows are append-only and only ever pruned by age, so both audit tables are
+-- range partitioned by created_at: one partition per month plus a DEFAULT partition
+-- for anything outside the pre-created range. AuditPartitionMaintenance keeps
+-- partitions created ahead and detaches/drops the ones past retention.
+-- The primary key has to include the partition key, hence (id, created_at).
+
+-- Create <parent>_pYYYYMM partitions for every month in [from_month, to_month].
+-- Months must be created before rows for them arrive: a month whose rows already sit
+-- in the DEFAULT partition cannot be split out by this function.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+    RETURNS INTEGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    bucket    DATE    := date_trunc('month', from_month)::date;
+    partition TEXT;
+    created   INTEGER := 0;
+BEGIN
+    WHILE bucket <= to_month LOOP
+        partition := format('%s_p%s', parent, to_char(bucket, 'YYYYMM'));
+        IF to_regclass(partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition, parent, bucket, (bucket + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        bucket := (bucket + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+-- Detach every monthly partition that ends on or before the month of before_month,
+-- dropping it as well unless the detached table is kept for archiving.
+CREATE OR REPLACE FUNCTION drop_monthly_partitions(parent TEXT, before_month DATE, drop_tables BOOLEAN)
+    RETURNS INTEGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    child   RECORD;
+    removed INTEGER := 0;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{6}$')
+          AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', before_month)
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, child.relname);
+        IF drop_tables THEN
+            EXECUTE format('DROP TABLE %I', child.relname);
+        END IF;
+        removed := removed + 1;
+    END LOOP;
+    RETURN removed;
+END
+$$;
+
+-- Report audit
+ALTER TABLE report_audit RENAME TO report_audit_unpartitioned;
+ALTER INDEX report_audit_pkey RENAME TO report_audit_unpartitioned_pkey;
+ALTER INDEX idx_report_audit_report_created RENAME TO idx_report_audit_unpartitioned_report_created;
+
+CREATE TABLE report_audit (
+                              report_audit_id UUID NOT NULL DEFAULT uuid_generate_v4(),
+
+                              report_id UUID NOT NULL
+                                  REFERENCES report(report_id)
+                                      ON DELETE CASCADE,
+
+                              admin_user_id UUID,
+
+                              action_type VARCHAR(50) NOT NULL,
+
+                              previous_state VARCHAR(50),
+                              new_state VARCHAR(50),
+
+                              notes TEXT,
+
+                              is_automated BOOLEAN NOT NULL DEFAULT FALSE,
+
+                              created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                              PRIMARY KEY (report_audit_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT create_monthly_partitions('report_audit',
+                                 COALESCE((SELECT min(created_at) FROM report_audit_unpartitioned), CURRENT_DATE)::date,
+                                 (CURRENT_DATE + INTERVAL '3 months')::date);
+CREATE TABLE report_audit_default PARTITION OF report_audit DEFAULT;
+
+INSERT INTO report_audit (report_audit_id, report_id, admin_user_id, action_type, previous_state, new_state,
+                          notes, is_automated, created_at)
+SELECT report_audit_id, report_id, admin_user_id, action_type, previous_state, new_state,
+       notes, is_automated, created_at
+FROM report_audit_unpartitioned;
+
+DROP TABLE report_audit_unpartitioned;
+
+CREATE INDEX idx_report_audit_report_created
+    ON report_audit (report_id, created_at);
+
+-- Feedback audit
+ALTER TABLE feedback_audit RENAME TO feedback_audit_unpartitioned;
+ALTER INDEX feedback_audit_pkey RENAME TO feedback_audit_unpartitioned_pkey;
+ALTER INDEX idx_feedback_audit_feedback_created RENAME TO idx_feedback_audit_unpartitioned_feedback_created;
+
+CREATE TABLE feedback_audit (
+                                feedback_audit_id UUID NOT NULL DEFAULT uuid_generate_v4(),
+
+                                feedback_id UUID NOT NULL
+                                    REFERENCES feedback(feedback_id)
+                                        ON DELETE CASCADE,
+
+                                admin_user_id UUID,
+
+                                action_type VARCHAR(50) NOT NULL,
+
+                                previous_state VARCHAR(50) NOT NULL,
+                                new_state VARCHAR(50) NOT NULL,
+
+                                notes TEXT,
+
+                                is_automated BOOLEAN NOT NULL DEFAULT FALSE,
+
+                                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                PRIMARY KEY (feedback_audit_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT create_monthly_partitions('feedback_audit',
+                                 COALESCE((SELECT min(created_at) FROM feedback_audit_unpartitioned), CURRENT_DATE)::date,
+                                 (CURRENT_DATE + INTERVAL '3 months')::date);
+CREATE TABLE feedback_audit_default PARTITION OF feedback_audit DEFAULT;
+
+INSERT INTO feedback_audit (feedback_audit_id, feedback_id, admin_user_id, action_type, previous_state, new_state,
+                            notes, is_automated, created_at)
+SELECT feedback_audit_id, feedback_id, admin_user_id, action_type, previous_state, new_state,
+       notes, is_automated, created_at
+FROM feedback_audit_unpartitioned;
+
+DROP TABLE feedback_audit_unpartitioned;
+
+CREATE INDEX idx_feedback_audit_feedback_created
+    ON feedback_audit (feedback_id, created_at);
+
+ANALYZE report_audit;
+ANALYZE feedback_audit;
@@ -0,0 +1,73 @@
+-- ============================================
+-- PER-USER REPORT SUMMARY
+-- ============================================
+
+-- Report counts per reported user, maintained by UserReportSummaryWriter in the same
+-- transaction as every report change, so trust checks are primary key lookups instead
+-- of counts over the report table. Counts by type and status are JSONB maps of
+-- enum name -> count (zero entries are dropped).
+CREATE TABLE user_report_summary (
+                                     reported_user_id UUID PRIMARY KEY,
+
+                                     total_reports BIGINT NOT NULL DEFAULT 0,
+                                     type_counts JSONB NOT NULL DEFAULT '{}',
+                                     status_counts JSONB NOT NULL DEFAULT '{}',
+
+                                     last_reported_at TIMESTAMP,
+                                     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Reports per user and creation day, for the recent-window totals; days older than the
+-- longest window are deleted by UserReportSummaryWriter
+CREATE TABLE user_report_daily (
+                                   reported_user_id UUID NOT NULL,
+                                   day DATE NOT NULL,
+                                   report_count BIGINT NOT NULL,
+
+                                   PRIMARY KEY (reported_user_id, day)
+);
+
+-- Add two {"KEY": count} maps key by key, dropping keys that end up at zero
+CREATE OR REPLACE FUNCTION jsonb_add_counts(base JSONB, delta JSONB)
+    RETURNS JSONB
+    LANGUAGE sql
+    IMMUTABLE AS
+$$
+SELECT COALESCE(jsonb_object_agg(key, total), '{}'::jsonb)
+FROM (SELECT key, SUM(value::bigint) AS total
+      FROM (SELECT key, value FROM jsonb_each_text(base)
+            UNION ALL
+            SELECT key, value FROM jsonb_each_text(delta)) entries
+      GROUP BY key) sums
+WHERE total <> 0
+$$;
+
+-- Backfill from existing reports
+WITH totals AS (SELECT reported_user_id, count(*) AS total, max(created_at) AS last_reported_at
+                FROM report
+                WHERE reported_user_id IS NOT NULL
+                GROUP BY reported_user_id),
+     by_type AS (SELECT reported_user_id, jsonb_object_agg(report_type, n) AS counts
+                 FROM (SELECT reported_user_id, report_type, count(*) AS n
+                       FROM report
+                       WHERE reported_user_id IS NOT NULL
+                       GROUP BY reported_user_id, report_type) t
+                 GROUP BY reported_user_id),
+     by_status AS (SELECT reported_user_id, jsonb_object_agg(status, n) AS counts
+                   FROM (SELECT reported_user_id, status, count(*) AS n
+                         FROM report
+                         WHERE reported_user_id IS NOT NULL
+                         GROUP BY reported_user_id, status) s
+                   GROUP BY reported_user_id)
+INSERT INTO user_report_summary (reported_user_id, total_reports, type_counts, status_counts, last_reported_at)
+SELECT t.reported_user_id, t.total, bt.counts, bs.counts, t.last_reported_at
+FROM totals t
+         JOIN by_type bt USING (reported_user_id)
+         JOIN by_status bs USING (reported_user_id);
+
+INSERT INTO user_report_daily (reported_user_id, day, report_count)
+SELECT reported_user_id, created_at::date, count(*)
+FROM report
+WHERE reported_user_id IS NOT NULL
+  AND created_at >= CURRENT_DATE - 30
+GROUP BY reported_user_id, created_at::date;
@@ -0,0 +1,3 @@
+-- Last modification time of a feedback, the version behind its ETag.
+-- Existing rows stay NULL and are versioned by created_at until their next update.
+ALTER TABLE feedback ADD COLUMN updated_at TIMESTAMP;
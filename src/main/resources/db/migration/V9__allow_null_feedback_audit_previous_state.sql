@@ -0,0 +1,3 @@
+-- A CREATED audit has no previous state, the same as report_audit which allows NULL here.
+-- Altering the partitioned parent applies to every partition, DEFAULT included.
+ALTER TABLE feedback_audit ALTER COLUMN previous_state DROP NOT NULL;
@@ -0,0 +1,87 @@
+package com.hoangnd.reportingservice.controller;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import com.hoangnd.reportingservice.service.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+class ReportControllerETagTests {
+
+    @Autowired
+    private ReportController reportController;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private MockMvc mockMvc;
+
+    private UUID reportId;
+
+    @BeforeEach
+    void seed() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reportController).build();
+        reportId = reportRepository.save(Report.builder()
+                .reporterUserId(UUID.randomUUID())
+                .reportedEntityType(ReportedEntityType.LISTING)
+                .reportedEntityId(1L)
+                .reportType(ReportType.SPAM)
+                .priorityLevel(PriorityLevel.MEDIUM)
+                .title("ETag fixture")
+                .description("Conditional GET fixture")
+                .build()).getReportId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reportRepository.deleteById(reportId);
+    }
+
+    @Test
+    void conditionalGetRevalidatesAfterWrite() throws Exception {
+        MockHttpServletResponse first = fetch(null);
+        assertEquals(200, first.getStatus());
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        // The first GET warmed the cache; the validator must still match the stored row
+        assertEquals(304, fetch(etag).getStatus());
+
+        reportService.updateReportStatus(reportId, ReportStatus.IN_REVIEW, null, null);
+
+        MockHttpServletResponse afterWrite = fetch(etag);
+        assertEquals(200, afterWrite.getStatus());
+        assertNotEquals(etag, afterWrite.getHeader(HttpHeaders.ETAG));
+        assertEquals(304, fetch(afterWrite.getHeader(HttpHeaders.ETAG)).getStatus());
+    }
+
+    private MockHttpServletResponse fetch(String ifNoneMatch) throws Exception {
+        var request = get("/api/v1/reports/{id}", reportId);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
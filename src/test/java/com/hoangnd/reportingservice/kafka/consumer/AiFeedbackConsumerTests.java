@@ -0,0 +1,105 @@
+package com.hoangnd.reportingservice.kafka.consumer;
+
+import com.hoangnd.reportingservice.model.dto.request.CreateFeedbackRequest;
+import com.hoangnd.reportingservice.model.enums.Category;
+import com.hoangnd.reportingservice.model.enums.CheckType;
+import com.hoangnd.reportingservice.model.enums.DetectedBy;
+import com.hoangnd.reportingservice.model.enums.Severity;
+import jakarta.validation.ConstraintViolationException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class AiFeedbackConsumerTests {
+
+    private static final String TOPIC = "ai-feedback-results";
+
+    @Autowired
+    private AiFeedbackConsumer consumer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID listingId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM feedback WHERE listing_id = ?", listingId);
+    }
+
+    @Test
+    void batchIsSavedWithItemsAndCreationAudits() {
+        consumer.onAiFeedback(records(0, 3));
+
+        assertEquals(3, count("SELECT count(*) FROM feedback WHERE listing_id = ?"));
+        assertEquals(3, count("SELECT count(*) FROM feedback_item i JOIN feedback f USING (feedback_id) " +
+                "WHERE f.listing_id = ?"));
+        assertEquals(3, count("SELECT count(*) FROM feedback_audit a JOIN feedback f USING (feedback_id) " +
+                "WHERE f.listing_id = ? AND a.action_type = 'CREATED' AND a.previous_state IS NULL"));
+    }
+
+    @Test
+    void redeliveredPollDoesNotSaveRecordsTwice() {
+        consumer.onAiFeedback(records(0, 2));
+        consumer.onAiFeedback(records(0, 3));
+
+        assertEquals(3, count("SELECT count(*) FROM feedback WHERE listing_id = ?"));
+    }
+
+    @Test
+    void invalidRecordIsReportedAfterSavingTheRecordsBeforeIt() {
+        List<ConsumerRecord<String, String>> records = records(0, 3);
+        records.set(1, new ConsumerRecord<>(TOPIC, 0, 1L, null, "{\"listingId\": \"" + listingId + "\"}"));
+
+        BatchListenerFailedException failure =
+                assertThrows(BatchListenerFailedException.class, () -> consumer.onAiFeedback(records));
+
+        assertEquals(1, failure.getIndex());
+        assertInstanceOf(ConstraintViolationException.class, failure.getCause());
+        assertEquals(1, count("SELECT count(*) FROM feedback WHERE listing_id = ?"));
+    }
+
+    private List<ConsumerRecord<String, String>> records(long fromOffset, int count) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>(count);
+        for (long offset = fromOffset; offset < fromOffset + count; offset++) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, offset, null, objectMapper.writeValueAsString(request())));
+        }
+        return records;
+    }
+
+    private CreateFeedbackRequest request() {
+        return CreateFeedbackRequest.builder()
+                .listingId(listingId)
+                .sellerUserId(UUID.randomUUID())
+                .checkType(CheckType.AI_INITIAL_CHECK)
+                .feedbackItems(List.of(CreateFeedbackRequest.FeedbackItemRequest.builder()
+                        .category(Category.MISSING_DATA)
+                        .severity(Severity.MINOR)
+                        .targetAttribute("title")
+                        .errorMessage("Title is missing the district")
+                        .detectedBy(DetectedBy.AI)
+                        .build()))
+                .build();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, listingId);
+    }
+}
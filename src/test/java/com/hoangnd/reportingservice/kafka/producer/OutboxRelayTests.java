@@ -0,0 +1,132 @@
+package com.hoangnd.reportingservice.kafka.producer;
+
+import com.hoangnd.reportingservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rows are inserted and relayed inside one transaction that is rolled back afterwards, so
+ * relays of other application contexts never see them.
+ */
+@SpringBootTest(properties = "reporting.outbox.relay.enabled=false")
+class OutboxRelayTests {
+
+    private static final int ROWS = 3;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Set<String> sentKeys = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void failedSendKeepsTheBatch() {
+        OutboxRelay relay = relay(() -> CompletableFuture.failedFuture(new KafkaException("Broker unavailable")));
+
+        inRolledBackTransaction(() -> {
+            List<UUID> aggregateIds = insertRows();
+            assertThrows(IllegalStateException.class, () -> relayOnce(relay));
+
+            assertTrue(sentKeys.containsAll(aggregateIds.stream().map(UUID::toString).toList()));
+            assertEquals(ROWS, pending(aggregateIds));
+        });
+    }
+
+    @Test
+    void acknowledgedBatchIsDeleted() {
+        OutboxRelay relay = relay(() -> CompletableFuture.completedFuture(null));
+
+        inRolledBackTransaction(() -> {
+            List<UUID> aggregateIds = insertRows();
+            assertTrue(relayOnce(relay) >= ROWS);
+
+            assertTrue(sentKeys.containsAll(aggregateIds.stream().map(UUID::toString).toList()));
+            assertEquals(0, pending(aggregateIds));
+            assertTrue(meterRegistry.counter("reporting.outbox.published").count() >= ROWS);
+        });
+    }
+
+    private OutboxRelay relay(Supplier<CompletableFuture<SendResult<String, String>>> result) {
+        NotificationEventProducer producer = new NotificationEventProducer(null) {
+            @Override
+            public CompletableFuture<SendResult<String, String>> send(String topic, String key, String payload) {
+                sentKeys.add(key);
+                return result.get();
+            }
+        };
+        return new OutboxRelay(outboxEventRepository, producer, transactionManager, meterRegistry,
+                1, 500, Duration.ofHours(1), Duration.ofSeconds(5));
+    }
+
+    // The worker slot is shared with relays of other contexts, so wait until it is free
+    private int relayOnce(OutboxRelay relay) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        int relayed;
+        while ((relayed = relay.relayBatch(0)) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        return relayed;
+    }
+
+    private void inRolledBackTransaction(ThrowingRunnable body) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                body.run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private List<UUID> insertRows() {
+        List<UUID> aggregateIds = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            UUID aggregateId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO outbox (aggregate_type, aggregate_id, topic, event_type, payload) " +
+                    "VALUES ('REPORT', ?, 'report-lifecycle-events', 'CREATED', '{}')", aggregateId);
+            aggregateIds.add(aggregateId);
+        }
+        return aggregateIds;
+    }
+
+    private long pending(List<UUID> aggregateIds) {
+        return aggregateIds.stream()
+                .mapToLong(id -> jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM outbox WHERE aggregate_id = ?", Long.class, id))
+                .sum();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
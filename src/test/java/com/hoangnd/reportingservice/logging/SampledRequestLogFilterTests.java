@@ -0,0 +1,77 @@
+package com.hoangnd.reportingservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SampledRequestLogFilterTests {
+
+    private static final int REQUESTS = 20_000;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SampledRequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void captureLog() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void releaseLog() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void successfulRequestsAreLoggedAtTheSampleRate() throws Exception {
+        SampledRequestLogFilter filter = new SampledRequestLogFilter(0.1, 60_000);
+        for (int i = 0; i < REQUESTS; i++) {
+            filter(filter, 200);
+        }
+        // Expected 2000 lines; the bounds are about five standard deviations either side
+        int logged = appender.list.size();
+        assertTrue(logged > 1_800 && logged < 2_200, "logged " + logged + " of " + REQUESTS);
+    }
+
+    @Test
+    void serverErrorsAreAlwaysLogged() throws Exception {
+        SampledRequestLogFilter filter = new SampledRequestLogFilter(0, 60_000);
+        for (int i = 0; i < 100; i++) {
+            filter(filter, 200);
+            filter(filter, 503);
+        }
+        assertEquals(100, appender.list.size());
+        assertTrue(appender.list.stream().allMatch(event -> event.getFormattedMessage().contains("status=503")));
+    }
+
+    @Test
+    void slowRequestsAreAlwaysLogged() throws Exception {
+        SampledRequestLogFilter filter = new SampledRequestLogFilter(0, 0);
+        for (int i = 0; i < 100; i++) {
+            filter(filter, 200);
+        }
+        assertEquals(100, appender.list.size());
+        assertTrue(appender.list.stream().allMatch(event -> event.getFormattedMessage().contains("slow=true")));
+    }
+
+    private static void filter(SampledRequestLogFilter filter, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reports/statistics");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(status));
+    }
+}
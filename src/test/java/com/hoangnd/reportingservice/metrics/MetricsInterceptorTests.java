@@ -0,0 +1,112 @@
+package com.hoangnd.reportingservice.metrics;
+
+import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import com.hoangnd.reportingservice.service.ReportService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class MetricsInterceptorTests {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID reportId;
+
+    @BeforeEach
+    void seed() {
+        reportId = reportRepository.save(Report.builder()
+                .reporterUserId(UUID.randomUUID())
+                .reportedEntityType(ReportedEntityType.LISTING)
+                .reportedEntityId(1L)
+                .reportType(ReportType.SPAM)
+                .priorityLevel(PriorityLevel.MEDIUM)
+                .title("Metrics fixture")
+                .description("Interceptor fixture")
+                .build()).getReportId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reportRepository.deleteById(reportId);
+    }
+
+    @Test
+    void requestInterceptorRecordsStatementsPerRouteTemplate() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestStatementMetricsInterceptor interceptor = new RequestStatementMetricsInterceptor(registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reports/" + reportId);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/reports/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        reportRepository.count();
+        reportRepository.existsById(reportId);
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary statements = registry.get("reporting.db.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/reports/{id}")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertEquals(2, request.getAttribute(RequestStatementMetricsInterceptor.STATEMENTS_ATTRIBUTE));
+
+        // Statements after the request completed are not counted against it
+        reportRepository.count();
+        assertEquals(0, StatementCounter.stop());
+    }
+
+    @Test
+    void serviceInterceptorTagsStatusAndOutcome() throws Exception {
+        double byArgument = count("getReportsByStatus", ReportStatus.RESOLVED.name(), "SUCCESS", "none");
+        double byResult = count("getReportById", ReportStatus.PENDING.name(), "SUCCESS", "none");
+        double failed = count("getReportById", "none", "ERROR", ResourceNotFoundException.class.getSimpleName());
+
+        reportService.getReportsByStatus(ReportStatus.RESOLVED, null, 10);
+        reportService.getReportById(reportId);
+        assertThrows(ResourceNotFoundException.class, () -> reportService.getReportById(UUID.randomUUID()));
+
+        assertEquals(byArgument + 1, count("getReportsByStatus", ReportStatus.RESOLVED.name(), "SUCCESS", "none"));
+        assertEquals(byResult + 1, count("getReportById", ReportStatus.PENDING.name(), "SUCCESS", "none"));
+        assertEquals(failed + 1, count("getReportById", "none", "ERROR", ResourceNotFoundException.class.getSimpleName()));
+    }
+
+    private double count(String method, String status, String outcome, String exception) {
+        Timer timer = meterRegistry.find("reporting.service.invocations")
+                .tag("service", "ReportService")
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
@@ -0,0 +1,240 @@
+package com.hoangnd.reportingservice.repository;
+
+import com.hoangnd.reportingservice.model.enums.FeedbackStatus;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds the local Postgres with a synthetic data set (rolled back afterwards), calls each
+ * ReportRepository and FeedbackRepository access path, and EXPLAINs the SQL Hibernate
+ * rendered for it. Fails if any plan contains a sequential scan. Parameterised statements
+ * are planned generically, as the plan cache would after a few executions, so the plan
+ * holds for every bound value. Seeds 100000 rows per table; override with -Dexplain.rows.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.hoangnd.reportingservice.repository.RepositoryIndexUsageTests$StatementCapture")
+@Transactional
+class RepositoryIndexUsageTests {
+
+    private static final Pattern EMPTY_PARTITION_CANDIDATE =
+            Pattern.compile("Seq Scan on ((?:report|feedback)_audit_(?:p\\d{6}|default))");
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> failures = new ArrayList<>();
+
+    @BeforeEach
+    void seedData() {
+        seed(Integer.getInteger("explain.rows", 100_000));
+    }
+
+    @Test
+    void noAccessPathFallsBackToSequentialScan() {
+        UUID reportId = jdbcTemplate.queryForObject("SELECT report_id FROM report LIMIT 1", UUID.class);
+        UUID feedbackId = jdbcTemplate.queryForObject("SELECT feedback_id FROM feedback LIMIT 1", UUID.class);
+        LocalDateTime cursorAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        UUID cursorId = new UUID(0, 0);
+        PageRequest page = PageRequest.of(0, 51);
+
+        // ReportRepository keyset pages
+        explain("findPageByStatus", () -> reportRepository.findPageByStatus(ReportStatus.PENDING, cursorAt, cursorId, page));
+        explain("findPageByReporterUserId", () -> reportRepository.findPageByReporterUserId(userId(0, 42), cursorAt, cursorId, page));
+        explain("findPageByReportedUserId", () -> reportRepository.findPageByReportedUserId(userId(1, 42), cursorAt, cursorId, page));
+        explain("findPageByReportedEntity",
+                () -> reportRepository.findPageByReportedEntity(ReportedEntityType.LISTING, 42L, cursorAt, cursorId, page));
+        explain("findPageByAssignedAdminId", () -> reportRepository.findPageByAssignedAdminId(userId(2, 42), cursorAt, cursorId, page));
+        explain("findPageByAssignedAdminIdIsNull", () -> reportRepository.findPageByAssignedAdminIdIsNull(cursorAt, cursorId, page));
+        explain("findPageNeedingAttention", () -> reportRepository.findPageNeedingAttention(cursorAt, cursorId, page));
+        // ReportRepository claim queue
+        explain("findClaimCandidates", () -> reportRepository.findClaimCandidates(PriorityLevel.HIGH, page));
+        explain("lockNextClaimable", () -> reportRepository.lockNextClaimable(PriorityLevel.HIGH.name()));
+        explain("lockClaimable", () -> reportRepository.lockClaimable(reportId));
+        // ReportRepository lookups
+        explain("findReportsNeedingAttention", () -> reportRepository.findReportsNeedingAttention());
+        explain("findByIdWithEvidences", () -> reportRepository.findByIdWithEvidences(reportId));
+        explain("findWithEvidencesByIdIn", () -> reportRepository.findWithEvidencesByIdIn(List.of(reportId, cursorId)));
+        explain("findByIdWithAudits", () -> reportRepository.findByIdWithAudits(reportId));
+        explain("findVersionById", () -> reportRepository.findVersionById(reportId));
+        explain("countByReportedUserId", () -> reportRepository.countByReportedUserId(userId(1, 42)));
+        // Range scans are only index-bound for a narrow range, so they are planned for one
+        explain("findOverdueReports", () -> reportRepository.findOverdueReports(cursorAt.plusMinutes(10)),
+                "TIMESTAMP '2024-01-01 00:10'");
+        explain("findByCreatedAtBetween", () -> reportRepository.findByCreatedAtBetween(cursorAt, cursorAt.plusMinutes(10)),
+                "TIMESTAMP '2024-01-01 00:00'", "TIMESTAMP '2024-01-01 00:10'");
+        explain("findByResolvedAtBetween",
+                () -> reportRepository.findByResolvedAtBetween(cursorAt.plusDays(1), cursorAt.plusDays(1).plusMinutes(10)),
+                "TIMESTAMP '2024-01-02 00:00'", "TIMESTAMP '2024-01-02 00:10'");
+        // FeedbackRepository keyset pages
+        explain("findPageByListingId", () -> feedbackRepository.findPageByListingId(userId(3, 42), cursorAt, cursorId, page));
+        explain("findPageBySellerUserId", () -> feedbackRepository.findPageBySellerUserId(userId(4, 42), cursorAt, cursorId, page));
+        explain("findPageByFeedbackStatus",
+                () -> feedbackRepository.findPageByFeedbackStatus(FeedbackStatus.PENDING, cursorAt, cursorId, page));
+        explain("findPageUnreviewed", () -> feedbackRepository.findPageUnreviewed(FeedbackStatus.PENDING, cursorAt, cursorId, page));
+        // FeedbackRepository lookups
+        explain("findByListingId", () -> feedbackRepository.findByListingId(userId(3, 42)));
+        explain("findByListingIdAndFeedbackStatus",
+                () -> feedbackRepository.findByListingIdAndFeedbackStatus(userId(3, 42), FeedbackStatus.PENDING));
+        explain("findBySellerUserId", () -> feedbackRepository.findBySellerUserId(userId(4, 42)));
+        explain("findByReviewedByStaffId", () -> feedbackRepository.findByReviewedByStaffId(userId(5, 42)));
+        explain("findByIdWithItems", () -> feedbackRepository.findByIdWithItems(feedbackId));
+        explain("findVersionById (feedback)", () -> feedbackRepository.findVersionById(feedbackId));
+        explain("findSourceRecordsIn", () -> feedbackRepository.findSourceRecordsIn(List.of("ai-feedback-results-0@42")));
+
+        assertTrue(failures.isEmpty(), "Sequential scans found:\n\n" + String.join("\n\n", failures));
+    }
+
+    /**
+     * Runs one repository call, then EXPLAINs every statement Hibernate prepared for it.
+     * Without literals the statement gets a generic plan; otherwise a custom plan for them.
+     */
+    private void explain(String path, Runnable call, String... literals) {
+        entityManager.clear();
+        StatementCapture.start();
+        try {
+            call.run();
+        } finally {
+            entityManager.clear();
+        }
+        List<String> statements = StatementCapture.stop();
+        assertFalse(statements.isEmpty(), path + " prepared no statement");
+
+        for (String sql : statements) {
+            int parameters = 0;
+            StringBuilder numbered = new StringBuilder();
+            for (char c : sql.toCharArray()) {
+                numbered.append(c == '?' ? "$" + ++parameters : String.valueOf(c));
+            }
+            List<String> arguments = literals.length > 0 ? List.of(literals) : Collections.nCopies(parameters, "NULL");
+
+            jdbcTemplate.execute("SET LOCAL plan_cache_mode = " + (literals.length > 0 ? "force_custom_plan" : "force_generic_plan"));
+            jdbcTemplate.execute("PREPARE explained AS " + numbered);
+            List<String> lines = jdbcTemplate.queryForList("EXPLAIN EXECUTE explained"
+                    + (parameters > 0 ? "(" + String.join(", ", arguments) + ")" : ""), String.class);
+            jdbcTemplate.execute("DEALLOCATE explained");
+
+            if (lines.stream().anyMatch(line -> line.contains("Seq Scan") && !scansEmptyPartition(line))) {
+                failures.add(path + "\n" + sql + "\n" + String.join("\n", lines));
+            }
+        }
+    }
+
+    // Monthly audit partitions the seed data does not reach are empty, and scanning them is free
+    private boolean scansEmptyPartition(String planLine) {
+        Matcher partition = EMPTY_PARTITION_CANDIDATE.matcher(planLine);
+        return partition.find()
+                && !jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition.group(1) + ")", Boolean.class);
+    }
+
+    private void seed(int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO report (reporter_user_id, reported_user_id, reported_entity_type, reported_entity_id,
+                                    report_type, priority_level, status, title, description, assigned_admin_id,
+                                    created_at, resolved_at, ai_verified)
+                SELECT %s, %s, 'LISTING', g %% 200000,
+                       (ARRAY['FRAUD','FAKE_LISTING','SPAM','OTHER'])[1 + g %% 4],
+                       (ARRAY['HIGH','MEDIUM','LOW'])[1 + g %% 3],
+                       CASE g %% 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'IN_REVIEW' WHEN 2 THEN 'ESCALATED'
+                            ELSE (ARRAY['RESOLVED','REJECTED'])[1 + g %% 2] END,
+                       'Seeded report ' || g, 'Seeded for EXPLAIN checks',
+                       CASE WHEN g %% 20 = 0 THEN NULL ELSE %s END,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '1 second',
+                       CASE WHEN g %% 20 > 2 THEN TIMESTAMP '2024-01-02' + g * INTERVAL '1 second' END,
+                       g %% 10 = 0
+                FROM generate_series(1, ?) g
+                """.formatted(userIdExpr(0, 100000), userIdExpr(1, 50000), userIdExpr(2, 500)), rows);
+        jdbcTemplate.update("""
+                INSERT INTO report_evidence (report_id, evidence_type, file_url, file_size, mime_type)
+                SELECT report_id, 'IMAGE', 'https://example.com/' || report_id, 1024, 'image/png'
+                FROM report WHERE title LIKE 'Seeded report %'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO report_audit (report_id, action_type, new_state, is_automated, created_at)
+                SELECT report_id, 'CREATED', 'PENDING', TRUE, created_at
+                FROM report WHERE title LIKE 'Seeded report %'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO feedback (listing_id, seller_user_id, check_type, status, reviewed_by_staff_id, created_at)
+                SELECT %s, %s, 'AI_INITIAL_CHECK',
+                       CASE g %% 20 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'NEEDS_REVISION'
+                            ELSE (ARRAY['APPROVED','REJECTED','RESOLVED'])[1 + g %% 3] END,
+                       CASE WHEN g %% 20 = 0 THEN NULL ELSE %s END,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '1 second'
+                FROM generate_series(1, ?) g
+                """.formatted(userIdExpr(3, 200000), userIdExpr(4, 20000), userIdExpr(5, 200)), rows);
+        jdbcTemplate.update("""
+                INSERT INTO feedback_item (feedback_id, category, severity, target_attribute, error_message, detected_by)
+                SELECT feedback_id, 'MISSING_DATA', 'MINOR', 'title', 'Seeded item', 'AI'
+                FROM feedback
+                """);
+
+        for (String table : List.of("report", "report_evidence", "report_audit", "feedback", "feedback_item")) {
+            jdbcTemplate.execute("ANALYZE " + table);
+        }
+    }
+
+    // Deterministic UUIDs so lookups hit a realistic number of rows per key
+    private static String userIdExpr(int namespace, int cardinality) {
+        return "('00000000-0000-0000-%04d-' || lpad((g %% %d)::text, 12, '0'))::uuid".formatted(namespace, cardinality);
+    }
+
+    private static UUID userId(int namespace, int value) {
+        return UUID.fromString("00000000-0000-0000-%04d-%012d".formatted(namespace, value));
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the current thread between start() and stop()
+     */
+    public static class StatementCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = STATEMENTS.get();
+            STATEMENTS.remove();
+            return statements;
+        }
+    }
+}
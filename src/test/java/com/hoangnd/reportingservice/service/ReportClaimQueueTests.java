@@ -0,0 +1,105 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+class ReportClaimQueueTests {
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // A queue of its own, so reports loaded by the application's queue do not interfere
+    private ReportClaimQueue claimQueue;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        claimQueue = new ReportClaimQueue(reportRepository, 100);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void pollReturnsHighestPriorityThenOldest() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID lowOld = queue(PriorityLevel.LOW, now.minusDays(3));
+        UUID highNew = queue(PriorityLevel.HIGH, now.minusMinutes(1));
+        UUID mediumOld = queue(PriorityLevel.MEDIUM, now.minusDays(2));
+        UUID highOld = queue(PriorityLevel.HIGH, now.minusHours(5));
+        UUID mediumNew = queue(PriorityLevel.MEDIUM, now.minusHours(1));
+
+        assertEquals(highOld, claimQueue.poll());
+        assertEquals(highNew, claimQueue.poll());
+        assertEquals(mediumOld, claimQueue.poll());
+        assertEquals(mediumNew, claimQueue.poll());
+        assertEquals(lowOld, claimQueue.poll());
+        assertNull(claimQueue.poll());
+    }
+
+    @Test
+    void reportIsRequeuedWhenTheClaimRollsBack() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID first = queue(PriorityLevel.HIGH, now.minusHours(2));
+        UUID second = queue(PriorityLevel.HIGH, now.minusHours(1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(first, claimQueue.poll());
+            status.setRollbackOnly();
+        });
+        assertEquals(2, claimQueue.size());
+
+        // Back in its original place, ahead of the newer report
+        transactionTemplate.executeWithoutResult(status -> assertEquals(first, claimQueue.poll()));
+        assertEquals(second, claimQueue.poll());
+        assertNull(claimQueue.poll());
+    }
+
+    @Test
+    void reportThatStopsBeingClaimableIsSkipped() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID assigned = queue(PriorityLevel.HIGH, now.minusHours(2));
+        UUID pending = queue(PriorityLevel.LOW, now.minusHours(1));
+
+        claimQueue.onReportChanged(ReportChangedEvent.builder()
+                .type(ReportChangedEvent.Type.ASSIGNED)
+                .reportId(assigned)
+                .priorityLevel(PriorityLevel.HIGH)
+                .status(ReportStatus.IN_REVIEW)
+                .assignedAdminId(UUID.randomUUID())
+                .createdAt(now.minusHours(2))
+                .build());
+
+        assertEquals(pending, claimQueue.poll());
+        assertNull(claimQueue.poll());
+    }
+
+    private UUID queue(PriorityLevel priority, LocalDateTime createdAt) {
+        UUID reportId = UUID.randomUUID();
+        claimQueue.onReportChanged(ReportChangedEvent.builder()
+                .type(ReportChangedEvent.Type.CREATED)
+                .reportId(reportId)
+                .priorityLevel(priority)
+                .status(ReportStatus.PENDING)
+                .createdAt(createdAt)
+                .build());
+        return reportId;
+    }
+}
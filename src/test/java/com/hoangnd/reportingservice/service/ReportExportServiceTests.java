@@ -0,0 +1,130 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReportExportServiceTests {
+
+    @Autowired
+    private ReportExportService exportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // A one-second window no other fixture falls into, within the current month's audit partition
+    private final LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(5);
+    private final LocalDateTime to = from.plusSeconds(1);
+
+    private UUID auditedId;
+    private UUID unauditedId;
+
+    @BeforeEach
+    void seed() {
+        auditedId = report("Spam, \"again\"", from.plusNanos(100_000_000));
+        unauditedId = report("Plain title", from.plusNanos(200_000_000));
+        audit(auditedId, "ASSIGNED", from.plusNanos(300_000_000));
+        audit(auditedId, "STATUS_CHANGED", from.plusNanos(400_000_000));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reportRepository.deleteById(auditedId);
+        reportRepository.deleteById(unauditedId);
+    }
+
+    @Test
+    void ndjsonHasOneLinePerReportWithItsAuditsInOrder() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.export(ReportExportService.Format.NDJSON,
+                ReportExportService.DateField.CREATED_AT, from, to, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, exported);
+        assertEquals(2, lines.size());
+
+        JsonNode audited = objectMapper.readTree(lines.get(0));
+        assertEquals(auditedId.toString(), audited.get("report_id").asString());
+        assertEquals("Spam, \"again\"", audited.get("title").asString());
+        assertEquals(2, audited.get("audits").size());
+        assertEquals("ASSIGNED", audited.get("audits").get(0).get("action_type").asString());
+        assertEquals("STATUS_CHANGED", audited.get("audits").get(1).get("action_type").asString());
+
+        JsonNode unaudited = objectMapper.readTree(lines.get(1));
+        assertEquals(unauditedId.toString(), unaudited.get("report_id").asString());
+        assertEquals(0, unaudited.get("audits").size());
+    }
+
+    @Test
+    void csvHasOneLinePerAuditWithQuotedCells() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.export(ReportExportService.Format.CSV,
+                ReportExportService.DateField.CREATED_AT, from, to, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        List<String> lines = csv.lines().toList();
+        assertEquals(2, exported);
+        assertEquals(4, lines.size());
+        assertTrue(csv.endsWith("\r\n"));
+        assertTrue(lines.get(0).startsWith("report_id,reporter_user_id,"));
+        assertTrue(lines.get(0).endsWith(",audit_is_automated,audit_created_at"));
+
+        // Report columns repeat on each audit line; the title is quoted per RFC 4180
+        assertTrue(lines.get(1).startsWith(auditedId + ","));
+        assertTrue(lines.get(1).contains(",\"Spam, \"\"again\"\"\","));
+        assertTrue(lines.get(1).contains(",ASSIGNED,"));
+        assertTrue(lines.get(2).startsWith(auditedId + ","));
+        assertTrue(lines.get(2).contains(",STATUS_CHANGED,"));
+
+        // A report without audits still gets a line, with the audit columns empty
+        assertTrue(lines.get(3).startsWith(unauditedId + ","));
+        assertTrue(lines.get(3).endsWith(",,,,,,,,"));
+    }
+
+    private UUID report(String title, LocalDateTime createdAt) {
+        UUID reportId = reportRepository.save(Report.builder()
+                .reporterUserId(UUID.randomUUID())
+                .reportedEntityType(ReportedEntityType.LISTING)
+                .reportedEntityId(1L)
+                .reportType(ReportType.SPAM)
+                .priorityLevel(PriorityLevel.MEDIUM)
+                .title(title)
+                .description("Export fixture")
+                .build()).getReportId();
+        jdbcTemplate.update("UPDATE report SET created_at = ? WHERE report_id = ?", Timestamp.valueOf(createdAt), reportId);
+        return reportId;
+    }
+
+    private void audit(UUID reportId, String actionType, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO report_audit (report_id, action_type, previous_state, new_state, created_at) " +
+                "VALUES (?, ?, 'PENDING', 'IN_REVIEW', ?)", reportId, actionType, Timestamp.valueOf(createdAt));
+    }
+}
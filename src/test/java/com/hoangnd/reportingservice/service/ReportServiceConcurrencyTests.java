@@ -0,0 +1,115 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.exception.GlobalExceptionHandler;
+import com.hoangnd.reportingservice.exception.ResourceNotFoundException;
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@SpringBootTest
+class ReportServiceConcurrencyTests {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID reportId;
+
+    @BeforeEach
+    void seed() {
+        reportId = reportRepository.save(Report.builder()
+                .reporterUserId(UUID.randomUUID())
+                .reportedEntityType(ReportedEntityType.LISTING)
+                .reportedEntityId(1L)
+                .reportType(ReportType.SPAM)
+                .priorityLevel(PriorityLevel.MEDIUM)
+                .title("Race fixture")
+                .description("Concurrent assignment fixture")
+                .build()).getReportId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reportRepository.deleteById(reportId);
+    }
+
+    @Test
+    void racingAssignmentsYieldOneSuccessAndOneConflict() throws Exception {
+        UUID firstAdmin = UUID.randomUUID();
+        UUID secondAdmin = UUID.randomUUID();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The first assignment holds the row lock until its transaction commits; the second
+            // read the same unassigned state and blocks on its guarded UPDATE meanwhile
+            Future<?> second = new TransactionTemplate(transactionManager).execute(status -> {
+                assign(firstAdmin);
+                Future<?> racing = executor.submit(() -> assign(secondAdmin));
+                awaitBlockedOnLock();
+                return racing;
+            });
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+            OptimisticLockingFailureException conflict =
+                    assertInstanceOf(OptimisticLockingFailureException.class, failure.getCause());
+            assertEquals(HttpStatus.CONFLICT,
+                    new GlobalExceptionHandler().handleConcurrentModification(conflict).getStatusCode());
+            assertEquals(firstAdmin, reportRepository.findById(reportId).orElseThrow().getAssignedAdminId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assign(UUID adminId) {
+        try {
+            reportService.assignReport(reportId, adminId, null);
+        } catch (ResourceNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitBlockedOnLock() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity " +
+                    "WHERE datname = current_database() AND wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        fail("Second assignment never blocked on the row lock");
+    }
+}
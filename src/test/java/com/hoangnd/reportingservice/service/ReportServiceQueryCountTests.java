@@ -0,0 +1,124 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.dto.response.CursorPageResponse;
+import com.hoangnd.reportingservice.model.dto.response.ReportResponse;
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.entity.ReportEvidence;
+import com.hoangnd.reportingservice.model.enums.EvidenceType;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReportServiceQueryCountTests {
+
+    private static final int EVIDENCES_PER_REPORT = 3;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID reporterUserId;
+
+    private UUID reportId;
+
+    @BeforeEach
+    void seed() {
+        reporterUserId = UUID.randomUUID();
+        for (int i = 0; i < 60; i++) {
+            Report report = Report.builder()
+                    .reporterUserId(reporterUserId)
+                    .reportedEntityType(ReportedEntityType.LISTING)
+                    .reportedEntityId((long) i)
+                    .reportType(ReportType.SPAM)
+                    .priorityLevel(PriorityLevel.MEDIUM)
+                    .title("Report " + i)
+                    .description("Query count fixture")
+                    .build();
+            for (int e = 0; e < EVIDENCES_PER_REPORT; e++) {
+                report.addEvidence(ReportEvidence.builder()
+                        .evidenceType(EvidenceType.SCREENSHOT)
+                        .fileUrl("https://example.com/" + i + "/" + e)
+                        .fileSize(1024L)
+                        .mimeType("image/png")
+                        .build());
+            }
+            reportId = reportRepository.save(report).getReportId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageCostsConstantStatementsRegardlessOfSize() throws Exception {
+        long smallPage = statementsFor(() -> reportService.getReportsByReporter(reporterUserId, null, 5));
+        long largePage = statementsFor(() -> reportService.getReportsByReporter(reporterUserId, null, 50));
+
+        // One keyset query for the rows plus one fetch join for all their evidences
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void transitionCostsOneUpdateAndOneEvidenceQuery() throws Exception {
+        // The guarded UPDATE ... RETURNING plus the evidences for the response. The audit,
+        // outbox and user summary rows are written at commit, which this rolled-back test skips
+        assertEquals(2, statementsFor(() -> reportService.assignReport(reportId, UUID.randomUUID(), null)));
+        assertEquals(2, statementsFor(() -> reportService.updateReportStatus(reportId, ReportStatus.IN_REVIEW, null, null)));
+        assertEquals(2, statementsFor(() -> reportService.resolveReport(reportId, UUID.randomUUID(), "Resolved")));
+
+        ReportResponse resolved = reportService.resolveReport(reportId, null, "Resolved again");
+        assertEquals(ReportStatus.RESOLVED, resolved.status());
+        assertEquals(EVIDENCES_PER_REPORT, resolved.evidences().size());
+    }
+
+    @Test
+    void pageIncludesEvidencesAndCursor() {
+        CursorPageResponse<ReportResponse> page = reportService.getReportsByReporter(reporterUserId, null, 50);
+
+        assertEquals(50, page.getSize());
+        assertTrue(page.isHasNext());
+        page.getItems().forEach(report -> assertEquals(EVIDENCES_PER_REPORT, report.evidences().size()));
+
+        CursorPageResponse<ReportResponse> last = reportService.getReportsByReporter(reporterUserId, page.getNextCursor(), 50);
+        assertEquals(10, last.getSize());
+        assertFalse(last.isHasNext());
+    }
+
+    private long statementsFor(Callable<?> action) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        action.call();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
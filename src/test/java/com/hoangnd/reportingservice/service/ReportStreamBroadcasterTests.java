@@ -0,0 +1,152 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.event.ReportChangedEvent;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ReportStreamBroadcasterTests {
+
+    private static final int QUEUE_SIZE = 4;
+    private static final int EVENTS = 50;
+
+    @Autowired
+    private ReportService reportService;
+
+    private final Deque<RecordingEmitter> emitters = new ConcurrentLinkedDeque<>();
+
+    private ReportStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ReportStreamBroadcaster(reportService, 1000, QUEUE_SIZE, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitters.removeFirst();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void slowSubscriberIsResyncedWithoutDelayingOthers() throws Exception {
+        RecordingEmitter slow = subscribe(new CountDownLatch(1), false);
+        RecordingEmitter fast = subscribe(new CountDownLatch(0), false);
+
+        broadcaster.onReportChanged(event());
+        assertEquals("CREATED", fast.sent.poll(5, TimeUnit.SECONDS));
+        awaitFirstAttempt(slow);
+
+        // Each further event reaches the fast subscriber while the slow one is stuck on its first write
+        for (int i = 1; i < EVENTS; i++) {
+            broadcaster.onReportChanged(event());
+            assertEquals("CREATED", fast.sent.poll(5, TimeUnit.SECONDS), "fast subscriber stalled at event " + i);
+        }
+        assertEquals(1, slow.attempts.get());
+
+        slow.release.countDown();
+        assertEquals("CREATED", slow.sent.poll(5, TimeUnit.SECONDS));
+        // The backlog that overflowed its queue was collapsed into a single resync
+        assertEquals("resync", slow.sent.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedWriteDropsOnlyThatSubscriber() throws Exception {
+        RecordingEmitter broken = subscribe(new CountDownLatch(0), true);
+        RecordingEmitter healthy = subscribe(new CountDownLatch(0), false);
+
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.onReportChanged(event());
+            assertEquals("CREATED", healthy.sent.poll(5, TimeUnit.SECONDS), "healthy subscriber stalled at event " + i);
+        }
+        // Dropped after its first failed write, so no further event was attempted
+        assertEquals(1, broken.attempts.get());
+    }
+
+    private static void awaitFirstAttempt(RecordingEmitter emitter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.attempts.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private RecordingEmitter subscribe(CountDownLatch release, boolean failing) {
+        RecordingEmitter emitter = new RecordingEmitter(release, failing);
+        emitters.addLast(emitter);
+        broadcaster.subscribe(null);
+        return emitter;
+    }
+
+    private static ReportChangedEvent event() {
+        return ReportChangedEvent.builder()
+                .type(ReportChangedEvent.Type.CREATED)
+                .reportId(UUID.randomUUID())
+                .status(ReportStatus.PENDING)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch release;
+        private final boolean failing;
+
+        RecordingEmitter(CountDownLatch release, boolean failing) {
+            this.release = release;
+            this.failing = failing;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts.incrementAndGet();
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(eventName(builder));
+        }
+
+        private static String eventName(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.joining());
+            return text.lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .map(line -> line.substring("event:".length()))
+                    .findFirst()
+                    .orElse("");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hoangnd.reportingservice.service;
+
+import com.hoangnd.reportingservice.model.entity.Report;
+import com.hoangnd.reportingservice.model.enums.PriorityLevel;
+import com.hoangnd.reportingservice.model.enums.ReportStatus;
+import com.hoangnd.reportingservice.model.enums.ReportType;
+import com.hoangnd.reportingservice.model.enums.ReportedEntityType;
+import com.hoangnd.reportingservice.repository.ReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class StatisticsCacheTests {
+
+    private static final int WRITERS = 4;
+    private static final int REPORTS_PER_WRITER = 100;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentLinkedQueue<UUID> createdIds = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void cleanUp() {
+        reportRepository.deleteAllByIdInBatch(createdIds);
+        statisticsCache.reconcile();
+    }
+
+    @Test
+    void reconcileDuringCommitsNeitherLosesNorDoubleCountsDeltas() throws Exception {
+        statisticsCache.reconcile();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        try {
+            Future<?> reconciler = executor.submit(() -> {
+                while (writing.get()) {
+                    statisticsCache.reconcile();
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < REPORTS_PER_WRITER; i++) {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            createdIds.add(reportRepository.save(report()).getReportId());
+                            statisticsCache.reportCreated(ReportStatus.PENDING);
+                        });
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            reconciler.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // No reconcile runs after the writers finish, so the counter must already match
+        assertEquals(reportRepository.countByStatus(ReportStatus.PENDING),
+                statisticsCache.reportCounters().get(ReportStatus.PENDING));
+    }
+
+    private static Report report() {
+        return Report.builder()
+                .reporterUserId(UUID.randomUUID())
+                .reportedEntityType(ReportedEntityType.LISTING)
+                .reportedEntityId(1L)
+                .reportType(ReportType.SPAM)
+                .priorityLevel(PriorityLevel.LOW)
+                .title("Statistics fixture")
+                .description("Concurrent reconcile fixture")
+                .build();
+    }
+}